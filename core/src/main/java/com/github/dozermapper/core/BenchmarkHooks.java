@@ -0,0 +1,54 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core;
+
+import java.util.function.Supplier;
+
+import com.github.dozermapper.core.cache.CacheManager;
+import com.github.dozermapper.core.classmap.generator.BeanMappingGenerator;
+import com.github.dozermapper.core.propertydescriptor.PropertyDescriptorFactory;
+
+/**
+ * Hooks for the dozer-benchmarks module, which compares internal code paths that cannot be reached through
+ * {@link Mapper}. Not part of the public API, and may change or be removed in any release.
+ */
+public final class BenchmarkHooks {
+
+    private BenchmarkHooks() {
+    }
+
+    /**
+     * Returns a supplier which builds a complete {@link MappingProcessor} from the configuration of the given mapper
+     * on every call, as {@link DozerBeanMapper} did for every mapping request before its processors shared a
+     * {@link MappingEngine}.
+     *
+     * @param mapper mapper built by {@link DozerBeanMapperBuilder}
+     * @return supplier of processors which do not share anything built per request
+     */
+    public static Supplier<Mapper> fullyConstructedProcessors(Mapper mapper) {
+        DozerBeanMapper dozerBeanMapper = (DozerBeanMapper)mapper;
+        MappingEngine engine = dozerBeanMapper.getMappingEngine();
+        CacheManager cacheManager = mapper.getMapperModelContext().getCacheManager();
+        PropertyDescriptorFactory propertyDescriptorFactory = new PropertyDescriptorFactory();
+        BeanMappingGenerator beanMappingGenerator = new BeanMappingGenerator(engine.getBeanContainer(), engine.getDestBeanCreator(),
+                                                                             propertyDescriptorFactory);
+        return () -> new MappingProcessor(engine.getClassMappings(), engine.getGlobalConfiguration(), cacheManager,
+                                          dozerBeanMapper.getCustomConverters(), engine.getEventManager(),
+                                          engine.getCustomFieldMapper(), engine.getCustomConverterObjectsWithId(),
+                                          engine.getBeanContainer(), engine.getDestBeanCreator(),
+                                          engine.getDestBeanBuilderCreator(), beanMappingGenerator, propertyDescriptorFactory);
+    }
+}
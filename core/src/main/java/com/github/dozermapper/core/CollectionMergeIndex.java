@@ -0,0 +1,131 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Internal index over the elements of a collection which is merged with a non-cumulative relationship or whose orphans
+ * are removed. Finds the first element equal to a mapped value without scanning the collection. Only intended for
+ * internal use.
+ * <p>
+ * Lists compare their elements with {@link Object#equals(Object)} only. Once an element of a class which overrides
+ * equals but not hashCode is seen, the index is dropped and lookups scan the list, so the result stays the same as
+ * with {@link java.util.List#indexOf(Object)}. Sets are always indexed, because they already rely on hashCode.
+ */
+final class CollectionMergeIndex {
+
+    private static final ClassValue<Boolean> HASH_CONSISTENT = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                Class<?> equalsDeclarer = type.getMethod("equals", Object.class).getDeclaringClass();
+                Class<?> hashCodeDeclarer = type.getMethod("hashCode").getDeclaringClass();
+                return equalsDeclarer == Object.class || equalsDeclarer.isAssignableFrom(hashCodeDeclarer);
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    private final Collection<?> elements;
+    private final boolean hashOnly;
+    private Map<Object, Object> firstElements;
+
+    private CollectionMergeIndex(Collection<?> elements, boolean hashOnly) {
+        this.elements = elements;
+        this.hashOnly = hashOnly;
+        this.firstElements = new HashMap<>(Math.max(16, elements.size() * 2));
+        for (Object element : elements) {
+            add(element);
+        }
+    }
+
+    /**
+     * Creates an index over the current elements of a list.
+     *
+     * @param elements list which is merged into, later additions have to be reported with {@link #add(Object)}
+     * @return index
+     */
+    static CollectionMergeIndex forList(Collection<?> elements) {
+        return new CollectionMergeIndex(elements, false);
+    }
+
+    /**
+     * Creates an index over the current elements of a set.
+     *
+     * @param elements set which is merged into, later additions have to be reported with {@link #add(Object)}
+     * @return index
+     */
+    static CollectionMergeIndex forSet(Collection<?> elements) {
+        return new CollectionMergeIndex(elements, true);
+    }
+
+    /**
+     * Checks whether the collection contains an element equal to the value
+     *
+     * @param value mapped value
+     * @return true if an equal element exists
+     */
+    boolean contains(Object value) {
+        if (firstElements != null && !isHashConsistent(value)) {
+            firstElements = null;
+        }
+        if (firstElements != null) {
+            return firstElements.containsKey(value);
+        }
+        return elements.contains(value);
+    }
+
+    /**
+     * Returns the first element equal to the value, only valid if {@link #contains(Object)} returned true
+     *
+     * @param value mapped value
+     * @return equal element of the collection
+     */
+    Object get(Object value) {
+        if (firstElements != null) {
+            return firstElements.get(value);
+        }
+        for (Object element : elements) {
+            if (Objects.equals(value, element)) {
+                return element;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Records an element which has been added to the collection
+     *
+     * @param element added element
+     */
+    void add(Object element) {
+        if (firstElements != null && !isHashConsistent(element)) {
+            firstElements = null;
+        }
+        if (firstElements != null) {
+            firstElements.putIfAbsent(element, element);
+        }
+    }
+
+    private boolean isHashConsistent(Object value) {
+        return hashOnly || value == null || HASH_CONSISTENT.get(value.getClass());
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.github.dozermapper.core.util.ReflectionUtils;
+
+/**
+ * Resolves the {@link CustomConverter} instance used for a converter class. Only intended for internal use.
+ * <p>
+ * A class is resolved once. If one of the injected converters is an instance of it, the last such instance is used.
+ * Otherwise a single instance is created and shared, unless the class is annotated with {@link StatefulConverter}
+ * or implements {@link MapperAware}, as the mapper is set for each mapping request. Those are instantiated for every
+ * conversion, like before.
+ * <p>
+ * This class is threadsafe.
+ */
+final class CustomConverterRegistry {
+
+    private final List<CustomConverter> injectedConverters;
+    private final ConcurrentMap<Class<?>, CustomConverter> sharedConverters = new ConcurrentHashMap<>();
+    private final Set<Class<?>> statefulConverterClasses = ConcurrentHashMap.newKeySet();
+
+    CustomConverterRegistry(List<CustomConverter> injectedConverters) {
+        this.injectedConverters = injectedConverters != null ? injectedConverters : Collections.emptyList();
+    }
+
+    /**
+     * Returns the converter instance to use for the given converter class
+     *
+     * @param converterClass class of the converter
+     * @return injected, shared or new converter instance
+     */
+    CustomConverter getConverter(Class<?> converterClass) {
+        CustomConverter converter = sharedConverters.get(converterClass);
+        if (converter != null) {
+            return converter;
+        }
+        if (statefulConverterClasses.contains(converterClass)) {
+            return newConverter(converterClass);
+        }
+
+        converter = findInjected(converterClass);
+        if (converter == null) {
+            converter = newConverter(converterClass);
+            if (!isShareable(converterClass)) {
+                statefulConverterClasses.add(converterClass);
+                return converter;
+            }
+        }
+
+        CustomConverter existing = sharedConverters.putIfAbsent(converterClass, converter);
+        return existing != null ? existing : converter;
+    }
+
+    /**
+     * Returns whether {@link #getConverter(Class)} returns the same instance for every call with the given class
+     *
+     * @param converterClass class of the converter, which has been resolved before
+     * @return true if the instance is shared
+     */
+    boolean isShared(Class<?> converterClass) {
+        return sharedConverters.containsKey(converterClass);
+    }
+
+    private CustomConverter findInjected(Class<?> converterClass) {
+        CustomConverter match = null;
+        for (CustomConverter injectedConverter : injectedConverters) {
+            if (converterClass.isInstance(injectedConverter)) {
+                match = injectedConverter;
+            }
+        }
+        return match;
+    }
+
+    private static CustomConverter newConverter(Class<?> converterClass) {
+        return (CustomConverter)ReflectionUtils.newInstance(converterClass);
+    }
+
+    private static boolean isShareable(Class<?> converterClass) {
+        return !converterClass.isAnnotationPresent(StatefulConverter.class) && !MapperAware.class.isAssignableFrom(converterClass);
+    }
+}
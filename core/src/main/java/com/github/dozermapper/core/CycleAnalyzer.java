@@ -0,0 +1,136 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.github.dozermapper.core.util.ReflectionUtils;
+
+/**
+ * Internal class that decides from the static type graph of a source class whether objects of that class have to be
+ * tracked by {@link MappedFieldsTracker}. A class has to be tracked if one of the types reachable through its fields
+ * and properties can hold an instance of the class again, or if the type of a reachable value is not known statically,
+ * such as {@link Object}, interfaces, abstract and other non-final classes, raw collections and type variables.
+ * A non-final field type counts as open, because a subclass of it can declare a field which closes the cycle.
+ * Only intended for internal use.
+ */
+final class CycleAnalyzer {
+
+    private final ConcurrentMap<Class<?>, Boolean> trackedClasses = new ConcurrentHashMap<>();
+
+    /**
+     * Checks whether objects of the given class can take part in a reference cycle
+     *
+     * @param srcClass runtime class of the source object
+     * @return true if objects of the class have to be tracked
+     */
+    boolean requiresTracking(Class<?> srcClass) {
+        Boolean tracked = trackedClasses.get(srcClass);
+        if (tracked == null) {
+            tracked = analyze(srcClass);
+            trackedClasses.putIfAbsent(srcClass, tracked);
+        }
+        return tracked;
+    }
+
+    private static boolean analyze(Class<?> srcClass) {
+        if (Collection.class.isAssignableFrom(srcClass) || Map.class.isAssignableFrom(srcClass)) {
+            return true;
+        }
+
+        Set<Class<?>> visited = new HashSet<>();
+        visited.add(srcClass);
+        return membersReach(srcClass, srcClass, visited);
+    }
+
+    private static boolean membersReach(Class<?> type, Class<?> origin, Set<Class<?>> visited) {
+        for (PropertyDescriptor propertyDescriptor : ReflectionUtils.getPropertyDescriptors(type)) {
+            Method readMethod = propertyDescriptor.getReadMethod();
+            if (readMethod != null && reaches(readMethod.getGenericReturnType(), origin, visited)) {
+                return true;
+            }
+        }
+
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic() && reaches(field.getGenericType(), origin, visited)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean reaches(Type type, Class<?> origin, Set<Class<?>> visited) {
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType)type;
+            Class<?> rawType = (Class<?>)parameterizedType.getRawType();
+            if (Collection.class.isAssignableFrom(rawType) || Map.class.isAssignableFrom(rawType)) {
+                for (Type argument : parameterizedType.getActualTypeArguments()) {
+                    if (reaches(argument, origin, visited)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            return reaches(rawType, origin, visited);
+        }
+
+        if (type instanceof GenericArrayType) {
+            return reaches(((GenericArrayType)type).getGenericComponentType(), origin, visited);
+        }
+
+        if (!(type instanceof Class)) {
+            // type variables and wildcards
+            return true;
+        }
+
+        Class<?> clazz = (Class<?>)type;
+        if (clazz.isArray()) {
+            return reaches(clazz.getComponentType(), origin, visited);
+        }
+        if (clazz.isPrimitive() || clazz.isEnum()) {
+            return false;
+        }
+        if (clazz == Object.class || Collection.class.isAssignableFrom(clazz) || Map.class.isAssignableFrom(clazz)) {
+            // raw collections and untyped values
+            return true;
+        }
+        if (clazz.getName().startsWith("java.") || clazz.getName().startsWith("javax.")) {
+            // JDK value types, such as String, Number or Date, unlike interfaces such as Serializable
+            return clazz.isInterface();
+        }
+        if (!Modifier.isFinal(clazz.getModifiers()) || clazz == origin) {
+            // interfaces and abstract classes are never final, and a subclass can add a field reaching the origin
+            return true;
+        }
+
+        return visited.add(clazz) && membersReach(clazz, origin, visited);
+    }
+}
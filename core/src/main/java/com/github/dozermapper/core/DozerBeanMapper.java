@@ -18,8 +18,12 @@ package com.github.dozermapper.core;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import com.github.dozermapper.core.builder.DestBeanBuilderCreator;
 import com.github.dozermapper.core.cache.CacheManager;
@@ -28,13 +32,16 @@ import com.github.dozermapper.core.classmap.Configuration;
 import com.github.dozermapper.core.classmap.MappingFileData;
 import com.github.dozermapper.core.classmap.generator.BeanMappingGenerator;
 import com.github.dozermapper.core.config.BeanContainer;
+import com.github.dozermapper.core.config.Settings;
 import com.github.dozermapper.core.events.DefaultEventManager;
 import com.github.dozermapper.core.events.EventListener;
 import com.github.dozermapper.core.events.EventManager;
+import com.github.dozermapper.core.events.EventTypes;
 import com.github.dozermapper.core.factory.DestBeanCreator;
 import com.github.dozermapper.core.metadata.DozerMappingMetadata;
 import com.github.dozermapper.core.metadata.MappingMetadata;
 import com.github.dozermapper.core.propertydescriptor.PropertyDescriptorFactory;
+import com.github.dozermapper.core.util.MappingUtils;
 
 /**
  * Public Dozer Mapper implementation. This should be used/defined as a singleton within your application. This class
@@ -74,6 +81,7 @@ public class DozerBeanMapper implements Mapper, MapperModelContext {
     // There are no global caches. Caches are per bean mapper instance
     private final CacheManager cacheManager;
     private EventManager eventManager;
+    private final MappingEngine mappingEngine;
 
     DozerBeanMapper(List<String> mappingFiles,
                     BeanContainer beanContainer,
@@ -84,11 +92,13 @@ public class DozerBeanMapper implements Mapper, MapperModelContext {
                     List<CustomConverter> customConverters,
                     List<MappingFileData> mappingsFileData,
                     List<EventListener> eventListeners,
+                    Map<EventListener, Set<EventTypes>> eventListenerSubscriptions,
                     CustomFieldMapper customFieldMapper,
                     Map<String, CustomConverter> customConvertersWithId,
                     ClassMappings customMappings,
                     Configuration globalConfiguration,
-                    CacheManager cacheManager) {
+                    CacheManager cacheManager,
+                    Settings settings) {
         this.beanContainer = beanContainer;
         this.destBeanCreator = destBeanCreator;
         this.destBeanBuilderCreator = destBeanBuilderCreator;
@@ -99,10 +109,14 @@ public class DozerBeanMapper implements Mapper, MapperModelContext {
         this.mappingFiles = new ArrayList<>(mappingFiles);
         this.customFieldMapper = customFieldMapper;
         this.customConvertersWithId = new HashMap<>(customConvertersWithId);
-        this.eventManager = new DefaultEventManager(eventListeners);
+        this.eventManager = new DefaultEventManager(this.eventListeners, new IdentityHashMap<>(eventListenerSubscriptions));
         this.customMappings = customMappings;
         this.globalConfiguration = globalConfiguration;
         this.cacheManager = cacheManager;
+        this.mappingEngine = new MappingEngine(customMappings, globalConfiguration, cacheManager, this.customConverters,
+                                               this.eventManager, customFieldMapper, this.customConvertersWithId, beanContainer,
+                                               destBeanCreator, destBeanBuilderCreator, beanMappingGenerator, propertyDescriptorFactory,
+                                               settings);
     }
 
     /**
@@ -137,12 +151,59 @@ public class DozerBeanMapper implements Mapper, MapperModelContext {
         getMappingProcessor().map(source, destination);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> List<T> mapAll(Iterable<?> sources, Class<T> destinationClass) throws MappingException {
+        return getMappingProcessor().mapAll(sources, destinationClass);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> List<T> mapAll(Iterable<?> sources, Class<T> destinationClass, String mapId) throws MappingException {
+        return getMappingProcessor().mapAll(sources, destinationClass, mapId);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The class mapping, custom converter and bean creation strategy are only resolved for the first argument of
+     * every runtime class and reused by later calls of the function.
+     */
+    @Override
+    public <S, T> Function<S, T> mappingFunction(Class<T> destinationClass, String mapId) throws MappingException {
+        if (destinationClass == null) {
+            MappingUtils.throwMappingException("Destination class must not be null");
+        }
+
+        Map<Class<?>, MappingProcessor.BatchResolution> resolutions = new ConcurrentHashMap<>();
+        return source -> {
+            if (source == null) {
+                return null;
+            }
+            Mapper processor = getMappingProcessor();
+            if (processor instanceof MappingProcessor) {
+                return ((MappingProcessor)processor).mapResolved(source, destinationClass, mapId, resolutions);
+            }
+            return processor.map(source, destinationClass, mapId);
+        };
+    }
+
+    /**
+     * Creates the processor for a single mapping request. The processor shares the {@link MappingEngine} of this mapper
+     * and only holds the state of the request itself.
+     *
+     * @return new processor
+     */
     protected Mapper getMappingProcessor() {
-        Mapper processor = new MappingProcessor(customMappings, globalConfiguration, cacheManager, customConverters,
-                                                eventManager, customFieldMapper, customConvertersWithId, beanContainer, destBeanCreator, destBeanBuilderCreator,
-                                                beanMappingGenerator, propertyDescriptorFactory);
+        return mappingEngine.newProcessor();
+    }
 
-        return processor;
+    MappingEngine getMappingEngine() {
+        return mappingEngine;
     }
 
     /**
@@ -200,4 +261,12 @@ public class DozerBeanMapper implements Mapper, MapperModelContext {
     public CustomFieldMapper getCustomFieldMapper() {
         return customFieldMapper;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CacheManager getCacheManager() {
+        return cacheManager;
+    }
 }
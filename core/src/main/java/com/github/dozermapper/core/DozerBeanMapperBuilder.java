@@ -20,11 +20,14 @@ import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -32,6 +35,7 @@ import com.github.dozermapper.core.builder.BeanMappingsBuilder;
 import com.github.dozermapper.core.builder.DestBeanBuilderCreator;
 import com.github.dozermapper.core.builder.xml.BeanMappingXMLBuilder;
 import com.github.dozermapper.core.cache.CacheManager;
+import com.github.dozermapper.core.cache.CacheMetricsListener;
 import com.github.dozermapper.core.cache.DefaultCacheManager;
 import com.github.dozermapper.core.cache.DozerCacheType;
 import com.github.dozermapper.core.classmap.ClassMapBuilder;
@@ -50,6 +54,7 @@ import com.github.dozermapper.core.el.ELExpressionFactory;
 import com.github.dozermapper.core.el.NoopELEngine;
 import com.github.dozermapper.core.el.TcclELEngine;
 import com.github.dozermapper.core.events.EventListener;
+import com.github.dozermapper.core.events.EventTypes;
 import com.github.dozermapper.core.factory.DestBeanCreator;
 import com.github.dozermapper.core.loader.CustomMappingsLoader;
 import com.github.dozermapper.core.loader.LoadMappingsResult;
@@ -94,6 +99,7 @@ public final class DozerBeanMapperBuilder {
     private List<BeanMappingBuilder> mappingBuilders = new ArrayList<>(0);
     private List<BeanMappingsBuilder> beanMappingsBuilders = new ArrayList<>(0);
     private List<EventListener> eventListeners = new ArrayList<>(0);
+    private Map<EventListener, Set<EventTypes>> eventListenerSubscriptions = new IdentityHashMap<>(0);
     private CustomFieldMapper customFieldMapper;
     private Map<String, CustomConverter> customConvertersWithId = new HashMap<>(0);
     private Map<String, BeanFactory> beanFactories = new HashMap<>(0);
@@ -103,6 +109,7 @@ public final class DozerBeanMapperBuilder {
     private ClassMappings customMappings;
     private Configuration globalConfiguration;
     private CacheManager cacheManager;
+    private CacheMetricsListener cacheMetricsListener;
 
     private DozerBeanMapperBuilder() {
     }
@@ -369,6 +376,39 @@ public final class DozerBeanMapperBuilder {
         return withEventListeners(eventListener);
     }
 
+    /**
+     * Registers a {@link EventListener} for the mapper, which is only called back for the given event types.
+     * Multiple calls of this method will register listeners in the order of calling.
+     * <p>
+     * Events are only created for types at least one listener is subscribed to, so a listener which is only interested
+     * in {@link EventTypes#MAPPING_FINISHED} does not add any cost per mapped field.
+     * <p>
+     * Registering a listener which is already registered does not register it twice. Its event types are added to
+     * the ones it is subscribed to, and a listener registered without event types stays subscribed to all events.
+     *
+     * @param eventListener listener to be registered for the mapper.
+     * @param eventTypes    event types the listener is called back for, an empty set subscribes to no events.
+     * @return modified builder to be further configured.
+     * @throws IllegalArgumentException if {@code eventTypes} is null.
+     */
+    public DozerBeanMapperBuilder withEventListener(EventListener eventListener, Set<EventTypes> eventTypes) {
+        if (eventTypes == null) {
+            throw new IllegalArgumentException("The event types cannot be null, pass an empty set to subscribe to no events.");
+        }
+        if (eventListener != null) {
+            Set<EventTypes> subscribed = this.eventListenerSubscriptions.get(eventListener);
+            if (subscribed != null) {
+                subscribed.addAll(eventTypes);
+            } else if (!isEventListenerRegistered(eventListener)) {
+                subscribed = EnumSet.noneOf(EventTypes.class);
+                subscribed.addAll(eventTypes);
+                this.eventListeners.add(eventListener);
+                this.eventListenerSubscriptions.put(eventListener, subscribed);
+            }
+        }
+        return this;
+    }
+
     /**
      * Registers a {@link EventListener} for the mapper. Multiple calls of this method will register listeners in the order of calling.
      * <p>
@@ -391,7 +431,12 @@ public final class DozerBeanMapperBuilder {
      */
     public DozerBeanMapperBuilder withEventListeners(List<EventListener> eventListeners) {
         if (eventListeners != null) {
-            this.eventListeners.addAll(eventListeners);
+            for (EventListener eventListener : eventListeners) {
+                // a listener registered for some event types before is subscribed to all events instead of being called twice
+                if (this.eventListenerSubscriptions.remove(eventListener) == null) {
+                    this.eventListeners.add(eventListener);
+                }
+            }
         }
         return this;
     }
@@ -533,6 +578,18 @@ public final class DozerBeanMapperBuilder {
         return this;
     }
 
+    /**
+     * Registers a {@link CacheMetricsListener} which is notified of the hits, misses, loads and evictions of the
+     * mapper caches. Ignored if a {@link CacheManager} is registered via {@link #withCacheManager(CacheManager)}.
+     *
+     * @param cacheMetricsListener listener to notify
+     * @return modified builder to be further configured.
+     */
+    public DozerBeanMapperBuilder withCacheMetricsListener(CacheMetricsListener cacheMetricsListener) {
+        this.cacheMetricsListener = cacheMetricsListener;
+        return this;
+    }
+
     /**
      * Creates an instance of {@link Mapper}. Mapper is configured according to the current builder state.
      * <p>
@@ -596,11 +653,13 @@ public final class DozerBeanMapperBuilder {
                                    customConverters,
                                    mappingsFileData,
                                    eventListeners,
+                                   eventListenerSubscriptions,
                                    customFieldMapper,
                                    customConvertersWithId,
                                    customMappings,
                                    globalConfiguration,
-                                   cacheManager);
+                                   cacheManager,
+                                   settings);
     }
 
     private List<MappingFileData> createMappingsWithBuilders(BeanContainer beanContainer, DestBeanCreator destBeanCreator, PropertyDescriptorFactory propertyDescriptorFactory) {
@@ -696,7 +755,7 @@ public final class DozerBeanMapperBuilder {
         if (cacheManager == null) {
             // Initialize any bean mapper caches. These caches are only visible to the bean mapper instance and
             // are not shared across the VM.
-            CacheManager cacheManager = new DefaultCacheManager();
+            CacheManager cacheManager = new DefaultCacheManager(settings.getUseConcurrentCache(), cacheMetricsListener);
             cacheManager.putCache(DozerCacheType.CONVERTER_BY_DEST_TYPE.name(), settings.getConverterByDestTypeCacheMaxSize());
             cacheManager.putCache(DozerCacheType.SUPER_TYPE_CHECK.name(), settings.getSuperTypesCacheMaxSize());
 
@@ -786,4 +845,13 @@ public final class DozerBeanMapperBuilder {
             LOG.error("{}", ex.getMessage());
         }
     }
+
+    private boolean isEventListenerRegistered(EventListener eventListener) {
+        for (EventListener registered : this.eventListeners) {
+            if (registered == eventListener) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
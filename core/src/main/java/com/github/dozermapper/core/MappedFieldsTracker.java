@@ -179,4 +179,13 @@ public class MappedFieldsTracker {
     public Object getMappedValue(Object src, Class<?> destType) {
         return getMappedValue(src, destType, null);
     }
+
+    /**
+     * Forgets all mapped objects, so that the tracker can be reused for an unrelated mapping request.
+     */
+    public void clear() {
+        if (!mappedFields.isEmpty()) {
+            mappedFields.clear();
+        }
+    }
 }
@@ -15,7 +15,17 @@
  */
 package com.github.dozermapper.core;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
 import com.github.dozermapper.core.metadata.MappingMetadata;
+import com.github.dozermapper.core.util.MappingUtils;
+import com.github.dozermapper.core.util.MappingValidator;
 
 /**
  * Public root interface for performing Dozer mappings from application code.
@@ -64,6 +74,134 @@ public interface Mapper {
      */
     void map(Object source, Object destination, String mapId) throws MappingException;
 
+    /**
+     * Constructs a new instance of destinationClass for every element of sources and maps the element into it.
+     * Every element is mapped as if by a separate {@link #map(Object, Class)} call; null elements are mapped to null.
+     *
+     * @param sources          objects to convert from
+     * @param destinationClass type to convert to
+     * @param <T>              type to convert to
+     * @return mapped objects in the iteration order of sources
+     * @throws MappingException mapping failure
+     */
+    default <T> List<T> mapAll(Iterable<?> sources, Class<T> destinationClass) throws MappingException {
+        return mapAll(sources, destinationClass, null);
+    }
+
+    /**
+     * Constructs a new instance of destinationClass for every element of sources and maps the element into it.
+     * Every element is mapped as if by a separate {@link #map(Object, Class, String)} call; null elements are mapped to null.
+     *
+     * @param sources          objects to convert from
+     * @param destinationClass type to convert to
+     * @param mapId            id in configuration for mapping
+     * @param <T>              type to convert to
+     * @return mapped objects in the iteration order of sources
+     * @throws MappingException mapping failure
+     */
+    default <T> List<T> mapAll(Iterable<?> sources, Class<T> destinationClass, String mapId) throws MappingException {
+        MappingValidator.validateMappingRequest(sources, destinationClass);
+
+        List<T> results = sources instanceof Collection ? new ArrayList<>(((Collection<?>)sources).size()) : new ArrayList<>();
+        for (Object source : sources) {
+            results.add(source != null ? map(source, destinationClass, mapId) : null);
+        }
+        return results;
+    }
+
+    /**
+     * Maps every element of sources like {@link #mapAll(Iterable, Class)}, but splits large collections into chunks
+     * which are mapped in parallel on the common {@link ForkJoinPool}.
+     *
+     * @param sources          objects to convert from
+     * @param destinationClass type to convert to
+     * @param <T>              type to convert to
+     * @return mapped objects in the iteration order of sources
+     * @throws MappingException mapping failure
+     */
+    default <T> List<T> mapAllParallel(Collection<?> sources, Class<T> destinationClass) throws MappingException {
+        return mapAllParallel(sources, destinationClass, null, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Maps every element of sources like {@link #mapAll(Iterable, Class, String)}, but splits large collections into
+     * chunks which are mapped in parallel on the given executor. Every chunk is mapped by its own mapping request, so
+     * the elements must not share mutable objects. Small collections are mapped on the calling thread.
+     *
+     * @param sources          objects to convert from
+     * @param destinationClass type to convert to
+     * @param mapId            id in configuration for mapping
+     * @param executor         executor running the chunks
+     * @param <T>              type to convert to
+     * @return mapped objects in the iteration order of sources
+     * @throws MappingException mapping failure
+     */
+    default <T> List<T> mapAllParallel(Collection<?> sources, Class<T> destinationClass, String mapId, Executor executor) throws MappingException {
+        return ParallelBatchMapper.mapAll(this, sources, destinationClass, mapId, executor);
+    }
+
+    /**
+     * Creates a function which constructs a new instance of destinationClass for its argument and maps the argument into it.
+     * Every call maps as if by a separate {@link #map(Object, Class)} call; null is mapped to null.
+     *
+     * @param destinationClass type to convert to
+     * @param <S>              type to convert from
+     * @param <T>              type to convert to
+     * @return threadsafe mapping function
+     * @throws MappingException if destinationClass is null
+     */
+    default <S, T> Function<S, T> mappingFunction(Class<T> destinationClass) throws MappingException {
+        return mappingFunction(destinationClass, null);
+    }
+
+    /**
+     * Creates a function which constructs a new instance of destinationClass for its argument and maps the argument into it.
+     * Every call maps as if by a separate {@link #map(Object, Class, String)} call; null is mapped to null.
+     *
+     * @param destinationClass type to convert to
+     * @param mapId            id in configuration for mapping
+     * @param <S>              type to convert from
+     * @param <T>              type to convert to
+     * @return threadsafe mapping function
+     * @throws MappingException if destinationClass is null
+     */
+    default <S, T> Function<S, T> mappingFunction(Class<T> destinationClass, String mapId) throws MappingException {
+        if (destinationClass == null) {
+            MappingUtils.throwMappingException("Destination class must not be null");
+        }
+        return source -> source != null ? map(source, destinationClass, mapId) : null;
+    }
+
+    /**
+     * Lazily maps the elements of sources to new instances of destinationClass. Elements are mapped when they are
+     * consumed from the returned stream, as if by {@link #mappingFunction(Class)}.
+     *
+     * @param sources          objects to convert from
+     * @param destinationClass type to convert to
+     * @param <T>              type to convert to
+     * @return stream of mapped objects
+     * @throws MappingException if sources or destinationClass is null
+     */
+    default <T> Stream<T> stream(Stream<?> sources, Class<T> destinationClass) throws MappingException {
+        return stream(sources, destinationClass, null);
+    }
+
+    /**
+     * Lazily maps the elements of sources to new instances of destinationClass. Elements are mapped when they are
+     * consumed from the returned stream, as if by {@link #mappingFunction(Class, String)}.
+     *
+     * @param sources          objects to convert from
+     * @param destinationClass type to convert to
+     * @param mapId            id in configuration for mapping
+     * @param <T>              type to convert to
+     * @return stream of mapped objects
+     * @throws MappingException if sources or destinationClass is null
+     */
+    default <T> Stream<T> stream(Stream<?> sources, Class<T> destinationClass, String mapId) throws MappingException {
+        MappingValidator.validateMappingRequest(sources, destinationClass);
+        return sources.map(mappingFunction(destinationClass, mapId));
+    }
+
     /**
      * The {@link com.github.dozermapper.core.metadata.MappingMetadata} interface can be used to query information about the current
      * mapping definitions. It provides read only access to all important classes and field
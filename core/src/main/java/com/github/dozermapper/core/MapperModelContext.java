@@ -18,6 +18,7 @@ package com.github.dozermapper.core;
 import java.util.List;
 import java.util.Map;
 
+import com.github.dozermapper.core.cache.CacheManager;
 import com.github.dozermapper.core.events.EventListener;
 
 public interface MapperModelContext {
@@ -56,4 +57,11 @@ public interface MapperModelContext {
      * @return a custom field mapper
      */
     CustomFieldMapper getCustomFieldMapper();
+
+    /**
+     * Returns the {@link CacheManager} holding the caches of the mapper
+     *
+     * @return cache manager
+     */
+    CacheManager getCacheManager();
 }
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core;
+
+import java.util.List;
+import java.util.Map;
+
+import com.github.dozermapper.core.builder.DestBeanBuilderCreator;
+import com.github.dozermapper.core.cache.Cache;
+import com.github.dozermapper.core.cache.CacheManager;
+import com.github.dozermapper.core.cache.DozerCacheType;
+import com.github.dozermapper.core.classmap.ClassMapBuilder;
+import com.github.dozermapper.core.classmap.ClassMappings;
+import com.github.dozermapper.core.classmap.Configuration;
+import com.github.dozermapper.core.classmap.generator.BeanMappingGenerator;
+import com.github.dozermapper.core.config.BeanContainer;
+import com.github.dozermapper.core.config.Settings;
+import com.github.dozermapper.core.converters.PrimitiveOrWrapperConverter;
+import com.github.dozermapper.core.events.EventManager;
+import com.github.dozermapper.core.events.EventTypes;
+import com.github.dozermapper.core.factory.DestBeanCreator;
+import com.github.dozermapper.core.propertydescriptor.PropertyDescriptorFactory;
+import com.github.dozermapper.core.util.LogMsgFactory;
+
+/**
+ * Shared part of the mapping engine. Holds the state which does not change between mapping requests
+ * (class mappings, caches, converters, generators) so it is created once per {@link DozerBeanMapper}
+ * and shared by every {@link MappingProcessor} created from it. Only intended for internal use.
+ * <p>
+ * This class is threadsafe. Per request state, such as the {@link MappedFieldsTracker}, lives in the
+ * {@link MappingProcessor} returned by {@link #newProcessor()}.
+ */
+public final class MappingEngine {
+
+    private final ClassMappings classMappings;
+    private final Configuration globalConfiguration;
+    private final CustomConverterRegistry customConverterRegistry;
+    private final Map<String, CustomConverter> customConverterObjectsWithId;
+    private final EventManager eventManager;
+    private final CustomFieldMapper customFieldMapper;
+
+    private final Cache converterByDestTypeCache;
+    private final Cache superTypeCache;
+    private final PrimitiveOrWrapperConverter primitiveConverter;
+    private final LogMsgFactory logMsgFactory = new LogMsgFactory();
+    private final BeanContainer beanContainer;
+    private final ClassMapBuilder classMapBuilder;
+    private final DestBeanCreator destBeanCreator;
+    private final DestBeanBuilderCreator destBeanBuilderCreator;
+    private final MappingPlanCompiler mappingPlanCompiler;
+    private final boolean treeMode;
+    private final int treeModeMaxDepth;
+    private final CycleAnalyzer cycleAnalyzer;
+
+    public MappingEngine(ClassMappings classMappings, Configuration globalConfiguration, CacheManager cacheMgr,
+                         List<CustomConverter> customConverterObjects,
+                         EventManager eventManager, CustomFieldMapper customFieldMapper,
+                         Map<String, CustomConverter> customConverterObjectsWithId, BeanContainer beanContainer,
+                         DestBeanCreator destBeanCreator, DestBeanBuilderCreator destBeanBuilderCreator,
+                         BeanMappingGenerator beanMappingGenerator, PropertyDescriptorFactory propertyDescriptorFactory) {
+        this(classMappings, globalConfiguration, cacheMgr, customConverterObjects, eventManager, customFieldMapper, customConverterObjectsWithId,
+             beanContainer, destBeanCreator, destBeanBuilderCreator, beanMappingGenerator, propertyDescriptorFactory, new Settings());
+    }
+
+    /**
+     * Creates an engine configured by the given settings.
+     * <ul>
+     * <li>With compiled mapping plans, a {@link MappingPlan} is compiled for every class map on first use. Plans are
+     * neither compiled when a {@link CustomFieldMapper} is registered, as it has to see every field, nor when a listener
+     * subscribed to the per field write events, which plans do not fire.</li>
+     * <li>In tree mode processors do not keep track of already mapped objects, and fail once more than the maximum depth
+     * of nested objects are being mapped without tracking, so that a cyclic graph is reported instead of overflowing
+     * the stack.</li>
+     * <li>With cycle analysis, the static type graph of every source class decides whether its objects have to be
+     * tracked, see {@link CycleAnalyzer}. Objects which are not tracked are mapped like in tree mode.</li>
+     * </ul>
+     *
+     * @param classMappings                 class mappings
+     * @param globalConfiguration           global configuration
+     * @param cacheMgr                      cache manager
+     * @param customConverterObjects        custom converter instances
+     * @param eventManager                  event manager
+     * @param customFieldMapper             custom field mapper, can be null
+     * @param customConverterObjectsWithId  custom converter instances by id
+     * @param beanContainer                 bean container
+     * @param destBeanCreator               destination bean creator
+     * @param destBeanBuilderCreator        destination bean builder creator
+     * @param beanMappingGenerator          bean mapping generator
+     * @param propertyDescriptorFactory     property descriptor factory
+     * @param settings                      settings for mapping plans, tree mode and cycle analysis
+     */
+    MappingEngine(ClassMappings classMappings, Configuration globalConfiguration, CacheManager cacheMgr,
+                  List<CustomConverter> customConverterObjects,
+                  EventManager eventManager, CustomFieldMapper customFieldMapper,
+                  Map<String, CustomConverter> customConverterObjectsWithId, BeanContainer beanContainer,
+                  DestBeanCreator destBeanCreator, DestBeanBuilderCreator destBeanBuilderCreator,
+                  BeanMappingGenerator beanMappingGenerator, PropertyDescriptorFactory propertyDescriptorFactory,
+                  Settings settings) {
+        this.classMappings = classMappings;
+        this.globalConfiguration = globalConfiguration;
+        this.customConverterRegistry = new CustomConverterRegistry(customConverterObjects);
+        this.eventManager = eventManager;
+        this.customFieldMapper = customFieldMapper;
+        this.converterByDestTypeCache = cacheMgr.getCache(DozerCacheType.CONVERTER_BY_DEST_TYPE.name());
+        this.superTypeCache = cacheMgr.getCache(DozerCacheType.SUPER_TYPE_CHECK.name());
+        this.customConverterObjectsWithId = customConverterObjectsWithId;
+        this.beanContainer = beanContainer;
+        this.destBeanBuilderCreator = destBeanBuilderCreator;
+        this.classMapBuilder = new ClassMapBuilder(beanContainer, destBeanCreator, beanMappingGenerator, propertyDescriptorFactory);
+        this.primitiveConverter = new PrimitiveOrWrapperConverter(beanContainer);
+        this.destBeanCreator = destBeanCreator;
+        // compiled mapping plans do not fire the per field write events, so listeners to them keep the interpreter
+        boolean fieldEventsSubscribed = eventManager.isSubscribed(EventTypes.MAPPING_PRE_WRITING_DEST_VALUE)
+                                        || eventManager.isSubscribed(EventTypes.MAPPING_POST_WRITING_DEST_VALUE);
+        this.mappingPlanCompiler = settings.getUseCompiledMappingPlans() && customFieldMapper == null && !fieldEventsSubscribed
+                                   ? new MappingPlanCompiler(converterByDestTypeCache) : null;
+        this.treeMode = settings.getTreeMode();
+        this.treeModeMaxDepth = settings.getTreeModeMaxDepth();
+        this.cycleAnalyzer = settings.getAnalyzeCycles() && !treeMode ? new CycleAnalyzer() : null;
+    }
+
+    /**
+     * Creates a processor for a single mapping request. Processors are cheap to create, as they only
+     * allocate their own {@link MappedFieldsTracker} and reuse everything else from this engine.
+     *
+     * @return new processor backed by this engine
+     */
+    public MappingProcessor newProcessor() {
+        return new MappingProcessor(this);
+    }
+
+    ClassMappings getClassMappings() {
+        return classMappings;
+    }
+
+    Configuration getGlobalConfiguration() {
+        return globalConfiguration;
+    }
+
+    CustomConverterRegistry getCustomConverterRegistry() {
+        return customConverterRegistry;
+    }
+
+    Map<String, CustomConverter> getCustomConverterObjectsWithId() {
+        return customConverterObjectsWithId;
+    }
+
+    EventManager getEventManager() {
+        return eventManager;
+    }
+
+    CustomFieldMapper getCustomFieldMapper() {
+        return customFieldMapper;
+    }
+
+    Cache getConverterByDestTypeCache() {
+        return converterByDestTypeCache;
+    }
+
+    Cache getSuperTypeCache() {
+        return superTypeCache;
+    }
+
+    PrimitiveOrWrapperConverter getPrimitiveConverter() {
+        return primitiveConverter;
+    }
+
+    LogMsgFactory getLogMsgFactory() {
+        return logMsgFactory;
+    }
+
+    BeanContainer getBeanContainer() {
+        return beanContainer;
+    }
+
+    ClassMapBuilder getClassMapBuilder() {
+        return classMapBuilder;
+    }
+
+    DestBeanCreator getDestBeanCreator() {
+        return destBeanCreator;
+    }
+
+    DestBeanBuilderCreator getDestBeanBuilderCreator() {
+        return destBeanBuilderCreator;
+    }
+
+    /**
+     * Gets the compiler of mapping plans
+     *
+     * @return compiler or {@code null} if mapping plans are not used by this engine
+     */
+    MappingPlanCompiler getMappingPlanCompiler() {
+        return mappingPlanCompiler;
+    }
+
+    boolean isTreeMode() {
+        return treeMode;
+    }
+
+    int getTreeModeMaxDepth() {
+        return treeModeMaxDepth;
+    }
+
+    /**
+     * Gets the analyzer deciding which objects have to be tracked
+     *
+     * @return analyzer or {@code null} if every object is tracked unless in tree mode
+     */
+    CycleAnalyzer getCycleAnalyzer() {
+        return cycleAnalyzer;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core;
+
+import com.github.dozermapper.core.classmap.ClassMap;
+import com.github.dozermapper.core.fieldmap.FieldMap;
+
+/**
+ * Compiled form of a {@link ClassMap} for one source and destination class. Every field which could be compiled
+ * has a {@link FieldCopy} bound directly to its getter and setter, every other field is left to the
+ * {@link MappingProcessor}. Created by {@link MappingPlanCompiler}. Only intended for internal use.
+ */
+final class MappingPlan {
+
+    private final Class<?> srcClass;
+    private final Class<?> destClass;
+    private final FieldMap[] fieldMaps;
+    private final FieldCopy[] fieldCopies;
+
+    MappingPlan(Class<?> srcClass, Class<?> destClass, FieldMap[] fieldMaps, FieldCopy[] fieldCopies) {
+        this.srcClass = srcClass;
+        this.destClass = destClass;
+        this.fieldMaps = fieldMaps;
+        this.fieldCopies = fieldCopies;
+    }
+
+    /**
+     * Plans are compiled against concrete classes, so they can only be used for exactly those runtime classes
+     *
+     * @param runtimeSrcClass  class of the source object
+     * @param runtimeDestClass class of the destination object
+     * @return true if this plan can map between the given classes
+     */
+    boolean appliesTo(Class<?> runtimeSrcClass, Class<?> runtimeDestClass) {
+        return srcClass == runtimeSrcClass && destClass == runtimeDestClass;
+    }
+
+    int size() {
+        return fieldMaps.length;
+    }
+
+    FieldMap getFieldMap(int index) {
+        return fieldMaps[index];
+    }
+
+    /**
+     * Gets the compiled copy of a field
+     *
+     * @param index index of the field
+     * @return compiled copy or {@code null} if the field has to be mapped by the {@link MappingProcessor}
+     */
+    FieldCopy getFieldCopy(int index) {
+        return fieldCopies[index];
+    }
+
+    int getCompiledFieldCount() {
+        int result = 0;
+        for (FieldCopy fieldCopy : fieldCopies) {
+            if (fieldCopy != null) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Copies the value of a single field from the source to the destination object, including any conversion
+     * between primitives and wrappers.
+     */
+    interface FieldCopy {
+
+        void copy(Object srcObj, Object destObj);
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import com.github.dozermapper.core.MappingPlan.FieldCopy;
+import com.github.dozermapper.core.cache.Cache;
+import com.github.dozermapper.core.classmap.ClassMap;
+import com.github.dozermapper.core.fieldmap.ExcludeFieldMap;
+import com.github.dozermapper.core.fieldmap.FieldMap;
+import com.github.dozermapper.core.fieldmap.GenericFieldMap;
+import com.github.dozermapper.core.propertydescriptor.DozerPropertyDescriptor;
+import com.github.dozermapper.core.propertydescriptor.JavaBeanPropertyDescriptor;
+import com.github.dozermapper.core.util.MappingUtils;
+import com.github.dozermapper.core.util.MethodHandleUtils;
+import org.apache.commons.lang3.ClassUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.github.dozermapper.core.util.DozerConstants.ITERATE;
+
+/**
+ * Compiles a {@link MappingPlan} for a {@link ClassMap} the first time it is mapped. Fields which are plain java bean
+ * properties of a String, primitive or wrapper type, without custom converters, hints, indexes or deep mapping, are
+ * bound with {@link LambdaMetafactory} so the getter and setter are invoked directly and primitive values are not boxed.
+ * The only conversions compiled are the ones which the interpreter would produce as well: identity, boxing and unboxing,
+ * and widening between numeric types. Everything else falls back to the interpreter in {@link MappingProcessor}.
+ * <p>
+ * This class is threadsafe. Plans are cached per class map for the lifetime of the {@link MappingEngine}.
+ */
+final class MappingPlanCompiler {
+
+    private static final Logger log = LoggerFactory.getLogger(MappingPlanCompiler.class);
+
+    private static final MappingPlan NOT_COMPILED = new MappingPlan(null, null, new FieldMap[0], new FieldCopy[0]);
+
+    private static final List<Class<?>> NUMERIC_WIDENING_ORDER = Arrays.asList(Byte.class, Short.class, Integer.class, Long.class,
+                                                                               Float.class, Double.class);
+
+    private static final Map<Class<?>, Function<Object, Object>> WIDENING_CONVERSIONS = new HashMap<>();
+
+    static {
+        WIDENING_CONVERSIONS.put(Short.class, value -> ((Number)value).shortValue());
+        WIDENING_CONVERSIONS.put(Integer.class, value -> ((Number)value).intValue());
+        WIDENING_CONVERSIONS.put(Long.class, value -> ((Number)value).longValue());
+        WIDENING_CONVERSIONS.put(Float.class, value -> ((Number)value).floatValue());
+        WIDENING_CONVERSIONS.put(Double.class, value -> ((Number)value).doubleValue());
+    }
+
+    private final Cache converterByDestTypeCache;
+    private final ConcurrentMap<ClassMap, MappingPlan> plans = new ConcurrentHashMap<>();
+
+    MappingPlanCompiler(Cache converterByDestTypeCache) {
+        this.converterByDestTypeCache = converterByDestTypeCache;
+    }
+
+    /**
+     * Gets the plan for a class map, compiling it on first use
+     *
+     * @param classMap         class map to be executed
+     * @param runtimeSrcClass  class of the source object
+     * @param runtimeDestClass class of the destination object
+     * @return plan or {@code null} if the class map has to be interpreted
+     */
+    MappingPlan getPlan(ClassMap classMap, Class<?> runtimeSrcClass, Class<?> runtimeDestClass) {
+        MappingPlan plan = plans.get(classMap);
+        if (plan == null) {
+            plan = plans.computeIfAbsent(classMap, this::compile);
+        }
+        return plan.appliesTo(runtimeSrcClass, runtimeDestClass) ? plan : null;
+    }
+
+    private MappingPlan compile(ClassMap classMap) {
+        Class<?> srcClass = classMap.getSrcClassToMap();
+        Class<?> destClass = classMap.getDestClassToMap();
+        if (srcClass == null || destClass == null) {
+            return NOT_COMPILED;
+        }
+
+        List<FieldMap> fieldMaps = new ArrayList<>();
+        List<FieldCopy> fieldCopies = new ArrayList<>();
+        boolean compiled = false;
+        for (FieldMap fieldMap : classMap.getFieldMaps()) {
+            if (fieldMap instanceof ExcludeFieldMap) {
+                continue;
+            }
+
+            FieldCopy fieldCopy = compileField(fieldMap, srcClass, destClass);
+            fieldMaps.add(fieldMap);
+            fieldCopies.add(fieldCopy);
+            compiled |= fieldCopy != null;
+        }
+
+        if (!compiled) {
+            return NOT_COMPILED;
+        }
+
+        MappingPlan plan = new MappingPlan(srcClass, destClass, fieldMaps.toArray(new FieldMap[0]), fieldCopies.toArray(new FieldCopy[0]));
+        if (log.isDebugEnabled()) {
+            log.debug("Compiled mapping plan from {} to {}: {} of {} fields compiled", srcClass.getName(), destClass.getName(),
+                      plan.getCompiledFieldCount(), plan.size());
+        }
+        return plan;
+    }
+
+    private FieldCopy compileField(FieldMap fieldMap, Class<?> srcClass, Class<?> destClass) {
+        if (!isSimpleFieldMap(fieldMap)) {
+            return null;
+        }
+
+        try {
+            DozerPropertyDescriptor srcDescriptor = fieldMap.getSrcPropertyDescriptor(srcClass);
+            DozerPropertyDescriptor destDescriptor = fieldMap.getDestPropertyDescriptor(destClass);
+            if (srcDescriptor.getClass() != JavaBeanPropertyDescriptor.class || destDescriptor.getClass() != JavaBeanPropertyDescriptor.class) {
+                return null;
+            }
+
+            Method readMethod = ((JavaBeanPropertyDescriptor)srcDescriptor).getReadMethod();
+            Method writeMethod = ((JavaBeanPropertyDescriptor)destDescriptor).getWriteMethod();
+            Class<?> srcType = readMethod.getReturnType();
+            Class<?> destType = writeMethod.getParameterTypes()[0];
+
+            // generic properties resolve to a different type than the erased method signature
+            if (srcType != srcDescriptor.getPropertyType() || destType != destDescriptor.getPropertyType()) {
+                return null;
+            }
+
+            if (!isCompilableConversion(srcType, destType) || !MethodHandleUtils.isLambdaBindable(readMethod)
+                || !MethodHandleUtils.isLambdaBindable(writeMethod)) {
+                return null;
+            }
+
+            if (MappingUtils.determineCustomConverter(fieldMap, converterByDestTypeCache, fieldMap.getClassMap().getCustomConverters(),
+                                                      ClassUtils.primitiveToWrapper(srcType), destType) != null) {
+                return null;
+            }
+
+            return bindFieldCopy(fieldMap, readMethod, writeMethod, srcType, destType);
+        } catch (Throwable e) {
+            // leave the field to the interpreter, which reports any problem when the field is actually mapped
+            log.debug("Field {} -> {} is not compiled", fieldMap.getSrcFieldName(), fieldMap.getDestFieldName(), e);
+            return null;
+        }
+    }
+
+    private boolean isSimpleFieldMap(FieldMap fieldMap) {
+        return fieldMap.getClass() == GenericFieldMap.class
+               && MappingUtils.isBlankOrNull(fieldMap.getCustomConverter())
+               && MappingUtils.isBlankOrNull(fieldMap.getCustomConverterId())
+               && !ITERATE.equals(fieldMap.getDestFieldType())
+               && !fieldMap.isSrcFieldIndexed()
+               && !fieldMap.isDestFieldIndexed()
+               && !MappingUtils.isDeepMapping(fieldMap.getSrcFieldName())
+               && !MappingUtils.isDeepMapping(fieldMap.getDestFieldName())
+               && fieldMap.getSrcHintContainer() == null
+               && fieldMap.getDestHintContainer() == null
+               && fieldMap.getSrcDeepIndexHintContainer() == null
+               && fieldMap.getDestDeepIndexHintContainer() == null
+               && !fieldMap.isTrimStrings();
+    }
+
+    private boolean isCompilableConversion(Class<?> srcType, Class<?> destType) {
+        Class<?> srcWrapper = ClassUtils.primitiveToWrapper(srcType);
+        Class<?> destWrapper = ClassUtils.primitiveToWrapper(destType);
+        if (srcWrapper == destWrapper) {
+            return String.class.equals(srcWrapper) || ClassUtils.isPrimitiveWrapper(srcWrapper);
+        }
+
+        int srcOrder = NUMERIC_WIDENING_ORDER.indexOf(srcWrapper);
+        int destOrder = NUMERIC_WIDENING_ORDER.indexOf(destWrapper);
+        return srcOrder >= 0 && destOrder > srcOrder;
+    }
+
+    private FieldCopy bindFieldCopy(FieldMap fieldMap, Method readMethod, Method writeMethod, Class<?> srcType, Class<?> destType) throws Throwable {
+        Class<?> srcClass = readMethod.getDeclaringClass();
+        Class<?> destClass = writeMethod.getDeclaringClass();
+
+        if (srcType.isPrimitive() && destType.isPrimitive()) {
+            if (destType == int.class) {
+                return new IntFieldCopy(
+                        MethodHandleUtils.bindLambda(ToIntFunction.class, "applyAsInt", MethodType.methodType(int.class, Object.class),
+                             MethodType.methodType(int.class, srcClass), readMethod),
+                        MethodHandleUtils.bindLambda(ObjIntConsumer.class, "accept", MethodType.methodType(void.class, Object.class, int.class),
+                             MethodType.methodType(void.class, destClass, int.class), writeMethod));
+            } else if (destType == long.class) {
+                return new LongFieldCopy(
+                        MethodHandleUtils.bindLambda(ToLongFunction.class, "applyAsLong", MethodType.methodType(long.class, Object.class),
+                             MethodType.methodType(long.class, srcClass), readMethod),
+                        MethodHandleUtils.bindLambda(ObjLongConsumer.class, "accept", MethodType.methodType(void.class, Object.class, long.class),
+                             MethodType.methodType(void.class, destClass, long.class), writeMethod));
+            } else if (destType == double.class) {
+                return new DoubleFieldCopy(
+                        MethodHandleUtils.bindLambda(ToDoubleFunction.class, "applyAsDouble", MethodType.methodType(double.class, Object.class),
+                             MethodType.methodType(double.class, srcClass), readMethod),
+                        MethodHandleUtils.bindLambda(ObjDoubleConsumer.class, "accept", MethodType.methodType(void.class, Object.class, double.class),
+                             MethodType.methodType(void.class, destClass, double.class), writeMethod));
+            }
+        }
+
+        Class<?> srcWrapper = ClassUtils.primitiveToWrapper(srcType);
+        Class<?> destWrapper = ClassUtils.primitiveToWrapper(destType);
+        return new ObjectFieldCopy(
+                MethodHandleUtils.bindLambda(Function.class, "apply", MethodType.methodType(Object.class, Object.class),
+                     MethodType.methodType(srcWrapper, srcClass), readMethod),
+                srcWrapper == destWrapper ? null : WIDENING_CONVERSIONS.get(destWrapper),
+                MethodHandleUtils.bindLambda(BiConsumer.class, "accept", MethodType.methodType(void.class, Object.class, Object.class),
+                     MethodType.methodType(void.class, destClass, destWrapper), writeMethod),
+                fieldMap.isDestMapNull() && !destType.isPrimitive(),
+                fieldMap.isDestMapEmptyString());
+    }
+
+    private static final class IntFieldCopy implements FieldCopy {
+
+        private final ToIntFunction<Object> getter;
+        private final ObjIntConsumer<Object> setter;
+
+        IntFieldCopy(ToIntFunction<Object> getter, ObjIntConsumer<Object> setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        public void copy(Object srcObj, Object destObj) {
+            setter.accept(destObj, getter.applyAsInt(srcObj));
+        }
+    }
+
+    private static final class LongFieldCopy implements FieldCopy {
+
+        private final ToLongFunction<Object> getter;
+        private final ObjLongConsumer<Object> setter;
+
+        LongFieldCopy(ToLongFunction<Object> getter, ObjLongConsumer<Object> setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        public void copy(Object srcObj, Object destObj) {
+            setter.accept(destObj, getter.applyAsLong(srcObj));
+        }
+    }
+
+    private static final class DoubleFieldCopy implements FieldCopy {
+
+        private final ToDoubleFunction<Object> getter;
+        private final ObjDoubleConsumer<Object> setter;
+
+        DoubleFieldCopy(ToDoubleFunction<Object> getter, ObjDoubleConsumer<Object> setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        public void copy(Object srcObj, Object destObj) {
+            setter.accept(destObj, getter.applyAsDouble(srcObj));
+        }
+    }
+
+    /**
+     * Copies a boxed value, applying the same null and empty string policies as
+     * {@link MappingProcessor} does when writing a destination value.
+     */
+    private static final class ObjectFieldCopy implements FieldCopy {
+
+        private final Function<Object, Object> getter;
+        private final Function<Object, Object> conversion;
+        private final BiConsumer<Object, Object> setter;
+        private final boolean mapNull;
+        private final boolean mapEmptyString;
+
+        ObjectFieldCopy(Function<Object, Object> getter, Function<Object, Object> conversion, BiConsumer<Object, Object> setter,
+                        boolean mapNull, boolean mapEmptyString) {
+            this.getter = getter;
+            this.conversion = conversion;
+            this.setter = setter;
+            this.mapNull = mapNull;
+            this.mapEmptyString = mapEmptyString;
+        }
+
+        @Override
+        public void copy(Object srcObj, Object destObj) {
+            Object value = getter.apply(srcObj);
+            if (value == null) {
+                if (mapNull) {
+                    setter.accept(destObj, null);
+                }
+                return;
+            }
+
+            if (!mapEmptyString && "".equals(value)) {
+                return;
+            }
+
+            setter.accept(destObj, conversion == null ? value : conversion.apply(value));
+        }
+    }
+}
@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
@@ -29,13 +30,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
+import com.github.dozermapper.core.builder.BeanBuilderCreationStrategy;
 import com.github.dozermapper.core.builder.BuilderUtil;
 import com.github.dozermapper.core.builder.DestBeanBuilderCreator;
 import com.github.dozermapper.core.cache.Cache;
 import com.github.dozermapper.core.cache.CacheKeyFactory;
 import com.github.dozermapper.core.cache.CacheManager;
-import com.github.dozermapper.core.cache.DozerCacheType;
 import com.github.dozermapper.core.classmap.ClassMap;
 import com.github.dozermapper.core.classmap.ClassMapBuilder;
 import com.github.dozermapper.core.classmap.ClassMappings;
@@ -45,17 +49,16 @@ import com.github.dozermapper.core.classmap.MappingDirection;
 import com.github.dozermapper.core.classmap.RelationshipType;
 import com.github.dozermapper.core.classmap.generator.BeanMappingGenerator;
 import com.github.dozermapper.core.config.BeanContainer;
-import com.github.dozermapper.core.converters.DateFormatContainer;
 import com.github.dozermapper.core.converters.PrimitiveOrWrapperConverter;
 import com.github.dozermapper.core.events.DefaultEvent;
 import com.github.dozermapper.core.events.EventManager;
 import com.github.dozermapper.core.events.EventTypes;
 import com.github.dozermapper.core.factory.BeanCreationDirective;
+import com.github.dozermapper.core.factory.BeanCreationStrategy;
 import com.github.dozermapper.core.factory.DestBeanCreator;
 import com.github.dozermapper.core.fieldmap.CustomGetSetMethodFieldMap;
 import com.github.dozermapper.core.fieldmap.ExcludeFieldMap;
 import com.github.dozermapper.core.fieldmap.FieldMap;
-import com.github.dozermapper.core.fieldmap.HintContainer;
 import com.github.dozermapper.core.fieldmap.MapFieldMap;
 import com.github.dozermapper.core.propertydescriptor.PropertyDescriptorFactory;
 import com.github.dozermapper.core.util.CollectionUtils;
@@ -64,7 +67,8 @@ import com.github.dozermapper.core.util.IteratorUtils;
 import com.github.dozermapper.core.util.LogMsgFactory;
 import com.github.dozermapper.core.util.MappingUtils;
 import com.github.dozermapper.core.util.MappingValidator;
-import com.github.dozermapper.core.util.ReflectionUtils;
+import com.github.dozermapper.core.util.PrimitiveArrays;
+import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -76,7 +80,9 @@ import static com.github.dozermapper.core.util.DozerConstants.ITERATE;
  * Internal Mapping Engine. Not intended for direct use by Application code.
  * This class does most of the heavy lifting and is very recursive in nature.
  * <p>
- * This class is not threadsafe and is instantiated for each new mapping request.
+ * This class is not threadsafe and is instantiated for each new mapping request. Everything which is shared
+ * between requests is taken from a {@link MappingEngine}, so an instance only carries its own
+ * {@link MappedFieldsTracker}.
  */
 public class MappingProcessor implements Mapper {
 
@@ -84,21 +90,33 @@ public class MappingProcessor implements Mapper {
 
     private final ClassMappings classMappings;
     private final Configuration globalConfiguration;
-    private final List<CustomConverter> customConverterObjects;
+    private final CustomConverterRegistry customConverterRegistry;
     private final Map<String, CustomConverter> customConverterObjectsWithId;
     private final EventManager eventManager;
+    private final boolean mappingStartedSubscribed;
+    private final boolean mappingFinishedSubscribed;
+    private final boolean preWritingSubscribed;
+    private final boolean postWritingSubscribed;
     private final CustomFieldMapper customFieldMapper;
 
-    private final MappedFieldsTracker mappedFields = new MappedFieldsTracker();
+    private MappedFieldsTracker mappedFields = new MappedFieldsTracker();
 
     private final Cache converterByDestTypeCache;
     private final Cache superTypeCache;
     private final PrimitiveOrWrapperConverter primitiveConverter;
-    private final LogMsgFactory logMsgFactory = new LogMsgFactory();
+    private final LogMsgFactory logMsgFactory;
     private final BeanContainer beanContainer;
     private final ClassMapBuilder classMapBuilder;
     private final DestBeanCreator destBeanCreator;
     private final DestBeanBuilderCreator destBeanBuilderCreator;
+    private final MappingPlanCompiler mappingPlanCompiler;
+    private final boolean treeMode;
+    private final int treeModeMaxDepth;
+    private final CycleAnalyzer cycleAnalyzer;
+    private final MappingEngine engine;
+
+    // number of nested objects currently being mapped
+    private int depth;
 
     protected MappingProcessor(ClassMappings classMappings, Configuration globalConfiguration, CacheManager cacheMgr,
                                List<CustomConverter> customConverterObjects,
@@ -106,19 +124,35 @@ public class MappingProcessor implements Mapper {
                                Map<String, CustomConverter> customConverterObjectsWithId, BeanContainer beanContainer,
                                DestBeanCreator destBeanCreator, DestBeanBuilderCreator destBeanBuilderCreator,
                                BeanMappingGenerator beanMappingGenerator, PropertyDescriptorFactory propertyDescriptorFactory) {
-        this.classMappings = classMappings;
-        this.globalConfiguration = globalConfiguration;
-        this.customConverterObjects = customConverterObjects;
-        this.eventManager = eventManager;
-        this.customFieldMapper = customFieldMapper;
-        this.converterByDestTypeCache = cacheMgr.getCache(DozerCacheType.CONVERTER_BY_DEST_TYPE.name());
-        this.superTypeCache = cacheMgr.getCache(DozerCacheType.SUPER_TYPE_CHECK.name());
-        this.customConverterObjectsWithId = customConverterObjectsWithId;
-        this.beanContainer = beanContainer;
-        this.destBeanBuilderCreator = destBeanBuilderCreator;
-        this.classMapBuilder = new ClassMapBuilder(beanContainer, destBeanCreator, beanMappingGenerator, propertyDescriptorFactory);
-        this.primitiveConverter = new PrimitiveOrWrapperConverter(beanContainer);
-        this.destBeanCreator = destBeanCreator;
+        this(new MappingEngine(classMappings, globalConfiguration, cacheMgr, customConverterObjects, eventManager, customFieldMapper,
+                               customConverterObjectsWithId, beanContainer, destBeanCreator, destBeanBuilderCreator,
+                               beanMappingGenerator, propertyDescriptorFactory));
+    }
+
+    protected MappingProcessor(MappingEngine engine) {
+        this.classMappings = engine.getClassMappings();
+        this.globalConfiguration = engine.getGlobalConfiguration();
+        this.customConverterRegistry = engine.getCustomConverterRegistry();
+        this.eventManager = engine.getEventManager();
+        this.mappingStartedSubscribed = eventManager.isSubscribed(EventTypes.MAPPING_STARTED);
+        this.mappingFinishedSubscribed = eventManager.isSubscribed(EventTypes.MAPPING_FINISHED);
+        this.preWritingSubscribed = eventManager.isSubscribed(EventTypes.MAPPING_PRE_WRITING_DEST_VALUE);
+        this.postWritingSubscribed = eventManager.isSubscribed(EventTypes.MAPPING_POST_WRITING_DEST_VALUE);
+        this.customFieldMapper = engine.getCustomFieldMapper();
+        this.converterByDestTypeCache = engine.getConverterByDestTypeCache();
+        this.superTypeCache = engine.getSuperTypeCache();
+        this.customConverterObjectsWithId = engine.getCustomConverterObjectsWithId();
+        this.beanContainer = engine.getBeanContainer();
+        this.destBeanBuilderCreator = engine.getDestBeanBuilderCreator();
+        this.classMapBuilder = engine.getClassMapBuilder();
+        this.primitiveConverter = engine.getPrimitiveConverter();
+        this.logMsgFactory = engine.getLogMsgFactory();
+        this.destBeanCreator = engine.getDestBeanCreator();
+        this.mappingPlanCompiler = engine.getMappingPlanCompiler();
+        this.treeMode = engine.isTreeMode();
+        this.treeModeMaxDepth = engine.getTreeModeMaxDepth();
+        this.cycleAnalyzer = engine.getCycleAnalyzer();
+        this.engine = engine;
     }
 
     /* Mapper Interface Implementation */
@@ -141,6 +175,59 @@ public class MappingProcessor implements Mapper {
         mapGeneral(srcObj, null, destObj, mapId);
     }
 
+    @Override
+    public <T> List<T> mapAll(final Iterable<?> srcObjs, final Class<T> destClass, final String mapId) {
+        MappingValidator.validateMappingRequest(srcObjs, destClass);
+
+        List<T> results = srcObjs instanceof Collection ? new ArrayList<>(((Collection<?>)srcObjs).size()) : new ArrayList<>();
+        Map<Class<?>, BatchResolution> resolutions = new HashMap<>();
+        // a MapperAware converter may call this in the middle of a mapping, whose tracker has to survive the batch
+        MappedFieldsTracker requestTracker = mappedFields;
+        MappedFieldsTracker elementTracker = new MappedFieldsTracker();
+        mappedFields = elementTracker;
+        try {
+            for (Object srcObj : srcObjs) {
+                if (srcObj == null) {
+                    results.add(null);
+                } else {
+                    results.add(mapResolved(srcObj, destClass, mapId, resolutions));
+                    // every element is an independent mapping request
+                    elementTracker.clear();
+                }
+            }
+        } finally {
+            mappedFields = requestTracker;
+        }
+        return results;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The chunks run concurrently, so each of them is mapped by a new processor of the same {@link MappingEngine}
+     * instead of this one.
+     */
+    @Override
+    public <T> List<T> mapAllParallel(Collection<?> srcObjs, Class<T> destClass, String mapId, Executor executor) {
+        return ParallelBatchMapper.mapAll(engine::newProcessor, srcObjs, destClass, mapId, executor);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The function may be called from several threads, so every call is mapped by a new processor of the same
+     * {@link MappingEngine} instead of this one.
+     */
+    @Override
+    public <S, T> Function<S, T> mappingFunction(Class<T> destClass, String mapId) {
+        if (destClass == null) {
+            MappingUtils.throwMappingException("Destination class must not be null");
+        }
+
+        Map<Class<?>, BatchResolution> resolutions = new ConcurrentHashMap<>();
+        return srcObj -> srcObj != null ? engine.newProcessor().mapResolved(srcObj, destClass, mapId, resolutions) : null;
+    }
+
     /**
      * Only required due to type coupling of MappingProcessor and Mapper - needs re-think
      * @return nothing
@@ -180,7 +267,9 @@ public class MappingProcessor implements Mapper {
             classMap = getClassMap(srcObj.getClass(), destType, mapId);
 
 
-            eventManager.on(new DefaultEvent(EventTypes.MAPPING_STARTED, classMap, null, srcObj, result, null));
+            if (mappingStartedSubscribed) {
+                eventManager.on(new DefaultEvent(EventTypes.MAPPING_STARTED, classMap, null, srcObj, result, null));
+            }
 
             // TODO Check if any proxy issues are here
             // Check to see if custom converter has been specified for this mapping
@@ -188,7 +277,7 @@ public class MappingProcessor implements Mapper {
             Class<?> converterClass = MappingUtils.findCustomConverter(converterByDestTypeCache, classMap.getCustomConverters(), srcObj
                     .getClass(), destType);
 
-            if (destObj == null) {
+            if (destObj == null && !treeMode) {
                 // If this is a nested MapperAware conversion this mapping can be already processed
                 // but we can do this optimization only in case of no destObject, instead we must copy to the dest object
                 Object alreadyMappedValue = mappedFields.getMappedValue(srcObj, destType, mapId);
@@ -201,20 +290,113 @@ public class MappingProcessor implements Mapper {
                 return (T)mapUsingCustomConverter(converterClass, srcObj.getClass(), srcObj, destType, result, null, true);
             }
 
-            BeanCreationDirective creationDirective =
-                    new BeanCreationDirective(srcObj, classMap.getSrcClassToMap(), classMap.getDestClassToMap(), destType,
-                                              classMap.getDestClassBeanFactory(), classMap.getDestClassBeanFactoryId(), classMap.getDestClassCreateMethod(),
-                                              classMap.getDestClass().isSkipConstructor());
+            BeanCreationDirective creationDirective = createBeanCreationDirective(srcObj, classMap, destType);
 
             result = createByCreationDirectiveAndMap(creationDirective, classMap, srcObj, result, false, null);
         } catch (Throwable e) {
             MappingUtils.throwMappingException(e);
         }
-        eventManager.on(new DefaultEvent(EventTypes.MAPPING_FINISHED, classMap, null, srcObj, result, null));
+        if (mappingFinishedSubscribed) {
+            eventManager.on(new DefaultEvent(EventTypes.MAPPING_FINISHED, classMap, null, srcObj, result, null));
+        }
+
+        return result;
+    }
+
+    /**
+     * Equivalent of {@link #mapGeneral(Object, Class, Object, String)} for a new destination object, which takes the class map,
+     * custom converter and creation strategies from resolutions and only resolves them for source classes not seen before.
+     * The resolutions may be shared between processors if the map is threadsafe.
+     *
+     * @param srcObj      source object
+     * @param destClass   destination class
+     * @param mapId       mapping identifier
+     * @param resolutions resolutions by source class
+     * @param <T>         destination object type
+     * @return new destination object
+     */
+    <T> T mapResolved(Object srcObj, final Class<T> destClass, final String mapId, Map<Class<?>, BatchResolution> resolutions) {
+        srcObj = MappingUtils.deProxy(srcObj, beanContainer);
+
+        T result = null;
+        ClassMap classMap = null;
+        try {
+            BatchResolution resolution = resolutions.get(srcObj.getClass());
+            if (resolution == null) {
+                resolution = resolveBatch(srcObj, destClass, mapId);
+                resolutions.put(srcObj.getClass(), resolution);
+            }
+            classMap = resolution.classMap;
+
+            if (mappingStartedSubscribed) {
+                eventManager.on(new DefaultEvent(EventTypes.MAPPING_STARTED, classMap, null, srcObj, null, null));
+            }
+
+            if (resolution.converterClass != null) {
+                return (T)mapUsingCustomConverter(resolution.converterClass, srcObj.getClass(), srcObj, destClass, null, null, true);
+            }
+
+            // the directive carries the source object, which is handed to bean factories
+            BeanCreationDirective creationDirective = createBeanCreationDirective(srcObj, classMap, destClass);
+            if (resolution.builderStrategy != null) {
+                BeanBuilder beanBuilder = resolution.builderStrategy.create(creationDirective);
+                mapToDestObject(classMap, srcObj, beanBuilder, false, null);
+                result = (T)beanBuilder.build();
+            } else {
+                result = resolution.beanStrategy != null ? (T)resolution.beanStrategy.create(creationDirective) : null;
+                if (result == null) {
+                    result = (T)destBeanCreator.create(creationDirective);
+                }
+                mapToDestObject(classMap, srcObj, result, false, null);
+            }
+        } catch (Throwable e) {
+            MappingUtils.throwMappingException(e);
+        }
+        if (mappingFinishedSubscribed) {
+            eventManager.on(new DefaultEvent(EventTypes.MAPPING_FINISHED, classMap, null, srcObj, result, null));
+        }
 
         return result;
     }
 
+    private BatchResolution resolveBatch(Object srcObj, Class<?> destClass, String mapId) {
+        ClassMap classMap = getClassMap(srcObj.getClass(), destClass, mapId);
+        Class<?> converterClass = MappingUtils.findCustomConverter(converterByDestTypeCache, classMap.getCustomConverters(), srcObj.getClass(), destClass);
+        if (converterClass != null) {
+            return new BatchResolution(classMap, converterClass, null, null);
+        }
+
+        // none of the strategies depends on the source object, so they can be looked up with the first one
+        BeanCreationDirective creationDirective = createBeanCreationDirective(srcObj, classMap, destClass);
+        BeanBuilderCreationStrategy builderStrategy = destBeanBuilderCreator.findStrategy(creationDirective);
+        BeanCreationStrategy beanStrategy = builderStrategy == null ? destBeanCreator.findStrategy(creationDirective) : null;
+        return new BatchResolution(classMap, null, builderStrategy, beanStrategy);
+    }
+
+    private static BeanCreationDirective createBeanCreationDirective(Object srcObj, ClassMap classMap, Class<?> destType) {
+        return new BeanCreationDirective(srcObj, classMap.getSrcClassToMap(), classMap.getDestClassToMap(), destType,
+                                         classMap.getDestClassBeanFactory(), classMap.getDestClassBeanFactoryId(), classMap.getDestClassCreateMethod(),
+                                         classMap.getDestClass().isSkipConstructor());
+    }
+
+    /**
+     * Everything {@link #mapResolved(Object, Class, String, Map)} resolves once per source class
+     */
+    static final class BatchResolution {
+
+        private final ClassMap classMap;
+        private final Class<?> converterClass;
+        private final BeanBuilderCreationStrategy builderStrategy;
+        private final BeanCreationStrategy beanStrategy;
+
+        BatchResolution(ClassMap classMap, Class<?> converterClass, BeanBuilderCreationStrategy builderStrategy, BeanCreationStrategy beanStrategy) {
+            this.classMap = classMap;
+            this.converterClass = converterClass;
+            this.builderStrategy = builderStrategy;
+            this.beanStrategy = beanStrategy;
+        }
+    }
+
     /**
      * Create builder or target object if needed and call
      * {@link MappingProcessor#mapToDestObject(com.github.dozermapper.core.classmap.ClassMap, Object, Object, boolean, String)} function with
@@ -260,24 +442,38 @@ public class MappingProcessor implements Mapper {
             result = jakarta.xml.bind.JAXBElement.class.cast(destObj).getValue();
         }
 
-        map(classMap, srcObj, result, bypassSuperMappings, new ArrayList<>(), mapId);
+        depth++;
+        try {
+            map(classMap, srcObj, result, bypassSuperMappings, new ArrayList<>(), mapId);
+        } finally {
+            depth--;
+        }
     }
 
     private void map(ClassMap classMap, Object srcObj, Object destObj, boolean bypassSuperMappings, List<String> mappedParentFields, String mapId) {
         srcObj = MappingUtils.deProxy(srcObj, beanContainer);
 
-        // 1596766 - Recursive object mapping issue. Prevent recursive mapping
-        // infinite loop. Keep a record of mapped fields
-        // by storing the id of the sourceObj and the destObj to be mapped. This can
-        // be referred to later to avoid recursive mapping loops
-        mappedFields.put(srcObj, destObj, mapId);
-
         // If class map hasn't already been determined, find the appropriate one for
         // the src/dest object combination
         if (classMap == null) {
             classMap = getClassMap(srcObj.getClass(), destObj.getClass(), mapId);
         }
 
+        if (treeMode || classMap.isTreeMode() || (cycleAnalyzer != null && !cycleAnalyzer.requiresTracking(srcObj.getClass()))) {
+            // Without tracking a cyclic graph would recurse until the stack overflows
+            if (depth > treeModeMaxDepth) {
+                MappingUtils.throwMappingException("Maximum depth of " + treeModeMaxDepth + " nested objects exceeded while mapping "
+                                                   + srcObj.getClass().getName() + " to " + destObj.getClass().getName()
+                                                   + " in tree mode. Cyclic object graphs can not be mapped in tree mode.");
+            }
+        } else {
+            // 1596766 - Recursive object mapping issue. Prevent recursive mapping
+            // infinite loop. Keep a record of mapped fields
+            // by storing the id of the sourceObj and the destObj to be mapped. This can
+            // be referred to later to avoid recursive mapping loops
+            mappedFields.put(srcObj, destObj, mapId);
+        }
+
         Class<?> srcClass = srcObj.getClass();
         Class<?> destClass = destObj.getClass();
 
@@ -304,6 +500,16 @@ public class MappingProcessor implements Mapper {
             }
         }
 
+        // Use the compiled plan of this class mapping if there is one. Plans do not know about fields which were
+        // already mapped as part of super class mappings, so those are always interpreted.
+        if (mappingPlanCompiler != null && (mappedParentFields == null || mappedParentFields.isEmpty())) {
+            MappingPlan plan = mappingPlanCompiler.getPlan(classMap, srcClass, destClass);
+            if (plan != null) {
+                mapUsingPlan(plan, srcObj, destObj);
+                return;
+            }
+        }
+
         // Perform mappings for each field. Iterate through Fields Maps for this class mapping
         for (FieldMap fieldMapping : classMap.getFieldMaps()) {
             //Bypass field if it has already been mapped as part of super class mappings.
@@ -356,19 +562,48 @@ public class MappingProcessor implements Mapper {
             }
 
         } catch (Throwable e) {
-            log.error(logMsgFactory.createFieldMappingErrorMsg(srcObj, fieldMapping, srcFieldValue, destObj), e);
+            handleFieldMappingError(e, fieldMapping, srcObj, srcFieldValue, destObj);
+        }
+    }
 
-            // check error handling policy.
-            if (fieldMapping.isStopOnErrors()) {
-                MappingUtils.throwMappingException(e);
+    /**
+     * Perform mapping of all fields using a compiled plan. Fields without a compiled copy are mapped
+     * by {@link #mapField(FieldMap, Object, Object)}.
+     *
+     * @param plan    Compiled plan of the class mapping.
+     * @param srcObj  Source object.
+     * @param destObj Destination object.
+     */
+    private void mapUsingPlan(MappingPlan plan, Object srcObj, Object destObj) {
+        for (int i = 0; i < plan.size(); i++) {
+            FieldMap fieldMapping = plan.getFieldMap(i);
+            MappingPlan.FieldCopy fieldCopy = plan.getFieldCopy(i);
+            if (fieldCopy == null) {
+                mapField(fieldMapping, srcObj, destObj);
             } else {
-                // check if any Exceptions should be allowed to be thrown
-                if (!fieldMapping.getClassMap().getAllowedExceptions().isEmpty() && e.getCause() instanceof InvocationTargetException) {
-                    Throwable thrownType = ((InvocationTargetException)e.getCause()).getTargetException();
-                    Class<? extends Throwable> exceptionClass = thrownType.getClass();
-                    if (fieldMapping.getClassMap().getAllowedExceptions().contains(exceptionClass)) {
-                        throw (RuntimeException)thrownType;
-                    }
+                try {
+                    fieldCopy.copy(srcObj, destObj);
+                } catch (Throwable e) {
+                    // getter and setter are invoked directly, wrap the exception as a reflective invocation would
+                    handleFieldMappingError(new MappingException(new InvocationTargetException(e)), fieldMapping, srcObj, null, destObj);
+                }
+            }
+        }
+    }
+
+    private void handleFieldMappingError(Throwable e, FieldMap fieldMapping, Object srcObj, Object srcFieldValue, Object destObj) {
+        log.error(logMsgFactory.createFieldMappingErrorMsg(srcObj, fieldMapping, srcFieldValue, destObj), e);
+
+        // check error handling policy.
+        if (fieldMapping.isStopOnErrors()) {
+            MappingUtils.throwMappingException(e);
+        } else {
+            // check if any Exceptions should be allowed to be thrown
+            if (!fieldMapping.getClassMap().getAllowedExceptions().isEmpty() && e.getCause() instanceof InvocationTargetException) {
+                Throwable thrownType = ((InvocationTargetException)e.getCause()).getTargetException();
+                Class<? extends Throwable> exceptionClass = thrownType.getClass();
+                if (fieldMapping.getClassMap().getAllowedExceptions().contains(exceptionClass)) {
+                    throw (RuntimeException)thrownType;
                 }
             }
         }
@@ -392,20 +627,30 @@ public class MappingProcessor implements Mapper {
         // recurse the object as normal
         // 1770440 - fdg - Using multiple instances of CustomConverter
         Object destFieldValue;
-        if (!MappingUtils.isBlankOrNull(fieldMapping.getCustomConverterId())) {
-            if (customConverterObjectsWithId != null && customConverterObjectsWithId.containsKey(fieldMapping.getCustomConverterId())) {
-                Class<?> srcFieldClass = srcFieldValue != null ? srcFieldValue.getClass() : fieldMapping.getSrcFieldType(srcObj.getClass());
-                destFieldValue = mapUsingCustomConverterInstance(customConverterObjectsWithId.get(fieldMapping.getCustomConverterId()),
-                                                                 srcFieldClass, srcFieldValue, destFieldType, destObj, fieldMapping, false);
-            } else {
+        CustomConverter fieldConverter = fieldMapping.getBoundCustomConverter();
+        if (fieldConverter == null && !MappingUtils.isBlankOrNull(fieldMapping.getCustomConverterId())) {
+            fieldConverter = customConverterObjectsWithId != null ? customConverterObjectsWithId.get(fieldMapping.getCustomConverterId()) : null;
+            if (fieldConverter == null) {
                 throw new MappingException("CustomConverter instance not found with id:" + fieldMapping.getCustomConverterId());
             }
+            fieldMapping.bindCustomConverter(fieldConverter);
+        }
+
+        if (fieldConverter != null) {
+            Class<?> srcFieldClass = srcFieldValue != null ? srcFieldValue.getClass() : fieldMapping.getSrcFieldType(srcObj.getClass());
+            destFieldValue = mapUsingCustomConverterInstance(fieldConverter, srcFieldClass, srcFieldValue, destFieldType, destObj,
+                                                             fieldMapping, false);
         } else if (MappingUtils.isBlankOrNull(fieldMapping.getCustomConverter())) {
             destFieldValue = mapOrRecurseObject(srcObj, srcFieldValue, destFieldType, fieldMapping, destObj);
         } else {
+            Class<?> converterClass = fieldMapping.getCustomConverterClass();
+            fieldConverter = customConverterRegistry.getConverter(converterClass);
+            if (customConverterRegistry.isShared(converterClass)) {
+                fieldMapping.bindCustomConverter(fieldConverter);
+            }
             Class<?> srcFieldClass = srcFieldValue != null ? srcFieldValue.getClass() : fieldMapping.getSrcFieldType(srcObj.getClass());
-            destFieldValue = mapUsingCustomConverter(MappingUtils.loadClass(fieldMapping.getCustomConverter(), beanContainer), srcFieldClass,
-                                                     srcFieldValue, destFieldType, destObj, fieldMapping, false);
+            destFieldValue = mapUsingCustomConverterInstance(fieldConverter, srcFieldClass, srcFieldValue, destFieldType, destObj,
+                                                             fieldMapping, false);
         }
 
         writeDestinationValue(destObj, destFieldValue, fieldMapping, srcObj);
@@ -438,7 +683,7 @@ public class MappingProcessor implements Mapper {
         // infinite loop
         // In case of "this->this" mapping this rule should be omitted as processing is done on objects, which has been
         // just marked as mapped.
-        if (!(DozerConstants.SELF_KEYWORD.equals(srcFieldName) && DozerConstants.SELF_KEYWORD.equals(destFieldName))) {
+        if (!treeMode && !(DozerConstants.SELF_KEYWORD.equals(srcFieldName) && DozerConstants.SELF_KEYWORD.equals(destFieldName))) {
             Object alreadyMappedValue = mappedFields.getMappedValue(srcFieldValue, destFieldType, fieldMap.getMapId());
             if (alreadyMappedValue != null) {
                 return alreadyMappedValue;
@@ -477,8 +722,6 @@ public class MappingProcessor implements Mapper {
                 convertSrcFieldValue = ((String)srcFieldValue).trim();
             }
 
-            DateFormatContainer dfContainer = new DateFormatContainer(fieldMap.getDateFormat());
-
             if (fieldMap instanceof MapFieldMap && !primitiveConverter.accepts(destFieldType)) {
                 // This handles a very special/rare use case(see indexMapping.xml + unit
                 // test
@@ -491,9 +734,9 @@ public class MappingProcessor implements Mapper {
                 // destination map backed custom object would contain a value that is
                 // the custom object dest type instead of the
                 // desired src value.
-                return primitiveConverter.convert(convertSrcFieldValue, convertSrcFieldValue.getClass(), dfContainer);
+                return primitiveConverter.convert(convertSrcFieldValue, convertSrcFieldValue.getClass(), fieldMap.getDateFormat(), null, null);
             } else {
-                return primitiveConverter.convert(convertSrcFieldValue, destFieldType, dfContainer, destFieldName, destObj);
+                return primitiveConverter.convert(convertSrcFieldValue, destFieldType, fieldMap.getDateFormat(), destFieldName, destObj);
             }
         }
         if (MappingUtils.isSupportedCollection(srcFieldClass) && (MappingUtils.isSupportedCollection(destFieldType))) {
@@ -584,16 +827,7 @@ public class MappingProcessor implements Mapper {
         // since we are mapping some sort of collection now is a good time to decide
         // if they provided hints
         // if no hint is provided then we will use generics to determine the mapping type
-        if (fieldMap.getDestHintContainer() == null) {
-            Class<?> genericType = fieldMap.getGenericType(BuilderUtil.unwrapDestClassFromBuilder(destObj));
-            if (genericType != null) {
-                HintContainer destHintContainer = new HintContainer(beanContainer);
-                destHintContainer.setHintName(genericType.getName());
-                FieldMap cloneFieldMap = (FieldMap)fieldMap.clone();
-                cloneFieldMap.setDestHintContainer(destHintContainer); // should affect only this time as fieldMap is cloned
-                fieldMap = cloneFieldMap;
-            }
-        }
+        fieldMap = fieldMap.getGenericTypeFieldMap(BuilderUtil.unwrapDestClassFromBuilder(destObj));
 
         // if it is an iterator object turn it into a List
         if (srcCollectionValue instanceof Iterator) {
@@ -765,10 +999,15 @@ public class MappingProcessor implements Mapper {
             System.arraycopy(field, 0, result, 0, arraySize);
         }
         // primitive arrays are ALWAYS cumulative
+        Class<?> srcEntryType = srcCollectionValue.getClass().getComponentType();
+        if (PrimitiveArrays.canCopy(srcEntryType, destEntryType) && isPlainPrimitiveConversion(fieldMap, srcEntryType, destEntryType)) {
+            PrimitiveArrays.copy(srcCollectionValue, result, arraySize);
+            return result;
+        }
+        boolean copyArrayByReference = globalConfiguration.getCopyByReferences().contains(srcCollectionValue.getClass());
         for (int i = 0; i < size; i++) {
-            CopyByReferenceContainer copyByReferences = globalConfiguration.getCopyByReferences();
             Object toValue;
-            if (srcCollectionValue != null && copyByReferences.contains(srcCollectionValue.getClass())) {
+            if (copyArrayByReference) {
                 toValue = srcCollectionValue;
             } else {
                 toValue = mapOrRecurseObject(srcObj, Array.get(srcCollectionValue, i), destEntryType, fieldMap, destObj);
@@ -779,8 +1018,37 @@ public class MappingProcessor implements Mapper {
         return result;
     }
 
+    /**
+     * Whether primitive elements can be converted without calling {@link #mapOrRecurseObject} for each of them, which
+     * is the case if neither a custom converter nor copy by reference applies to the elements.
+     */
+    private boolean isPlainPrimitiveConversion(FieldMap fieldMap, Class<?> srcEntryType, Class<?> destEntryType) {
+        Class<?> srcWrapperType = ClassUtils.primitiveToWrapper(srcEntryType);
+        return !fieldMap.isCopyByReference()
+               && !globalConfiguration.getCopyByReferences().contains(srcWrapperType)
+               && MappingUtils.determineCustomConverter(fieldMap, converterByDestTypeCache, fieldMap.getClassMap().getCustomConverters(),
+                                                        srcWrapperType, destEntryType) == null;
+    }
+
+    /**
+     * Whether mapped elements are simply appended to the destination list, so converting them does not depend on the
+     * elements already in there.
+     */
+    private boolean isAppendOnly(FieldMap fieldMap) {
+        return !fieldMap.isRemoveOrphans()
+               && !RelationshipType.NON_CUMULATIVE.equals(fieldMap.getRelationshipType())
+               && (fieldMap.getDestHintContainer() == null || !fieldMap.getDestHintContainer().hasMoreThanOneHint());
+    }
+
     private Object mapListToArray(Object srcObj, Collection<?> srcCollectionValue, FieldMap fieldMap, Object destObj) {
         Class destEntryType = fieldMap.getDestFieldType(destObj.getClass()).getComponentType();
+        if (destEntryType.isPrimitive() && fieldMap.getDestValue(destObj) == null && isAppendOnly(fieldMap)
+            && isPlainPrimitiveConversion(fieldMap, destEntryType, destEntryType)) {
+            Object result = Array.newInstance(destEntryType, srcCollectionValue.size());
+            if (PrimitiveArrays.copyFromCollection(srcCollectionValue, result)) {
+                return result;
+            }
+        }
         List list;
         if (!destEntryType.getName().equals(BASE_CLASS)) {
             list = addOrUpdateToList(srcObj, fieldMap, srcCollectionValue, destObj, destEntryType);
@@ -805,6 +1073,8 @@ public class MappingProcessor implements Mapper {
             result.addAll((Collection<?>)field);
         }
         Object destValue;
+        boolean nonCumulative = RelationshipType.NON_CUMULATIVE.equals(fieldMap.getRelationshipType());
+        CollectionMergeIndex mergeIndex = nonCumulative ? CollectionMergeIndex.forSet(result) : null;
 
         Class<?> destEntryType = null;
         Class<?> prevDestEntryType = null;
@@ -823,13 +1093,10 @@ public class MappingProcessor implements Mapper {
             }
             prevDestEntryType = destEntryType;
 
-            if (RelationshipType.NON_CUMULATIVE.equals(fieldMap.getRelationshipType())
-                && result.contains(destValue)) {
+            if (mergeIndex != null && mergeIndex.contains(destValue)) {
                 mappedFields.rollbackTransaction(tx); // rollback side effects of dry-run
-                List<Object> resultAsList = new ArrayList<>(result);
-                int index = resultAsList.indexOf(destValue);
                 // perform an update if complex type - can't map strings
-                Object obj = resultAsList.get(index);
+                Object obj = mergeIndex.get(destValue);
                 // make sure it is not a String
                 if (!obj.getClass().isAssignableFrom(String.class)) {
                     mapToDestObject(null, srcValue, obj, false, fieldMap.getMapId());
@@ -839,6 +1106,9 @@ public class MappingProcessor implements Mapper {
                 mappedFields.commitTransaction(tx);
                 if (destValue != null || fieldMap.isDestMapNull()) {
                     result.add(destValue);
+                    if (mergeIndex != null) {
+                        mergeIndex.add(destValue);
+                    }
                 }
                 mappedElements.add(destValue);
             }
@@ -871,6 +1141,8 @@ public class MappingProcessor implements Mapper {
         // these maps are special cases which do not fall under what we are looking for
         Object field = fieldMap.getDestValue(destObj);
         result = prepareDestinationList(srcCollectionValue, field);
+        boolean nonCumulative = RelationshipType.NON_CUMULATIVE.equals(fieldMap.getRelationshipType());
+        CollectionMergeIndex mergeIndex = nonCumulative ? CollectionMergeIndex.forList(result) : null;
 
         Object destValue;
         Class<?> prevDestEntryType = null;
@@ -889,12 +1161,10 @@ public class MappingProcessor implements Mapper {
             }
             prevDestEntryType = destEntryType;
 
-            if (RelationshipType.NON_CUMULATIVE.equals(fieldMap.getRelationshipType())
-                && result.contains(destValue)) {
+            if (mergeIndex != null && mergeIndex.contains(destValue)) {
                 mappedFields.rollbackTransaction(tx); // rollback side effects of dry-run
-                int index = result.indexOf(destValue);
                 // perform an update if complex type - can't map strings
-                Object obj = result.get(index);
+                Object obj = mergeIndex.get(destValue);
                 // make sure it is not a String
                 if (obj != null && !obj.getClass().isAssignableFrom(String.class)) {
                     mapToDestObject(null, srcValue, obj, false, fieldMap.getMapId());
@@ -905,6 +1175,9 @@ public class MappingProcessor implements Mapper {
                 // respect null mappings
                 if (destValue != null || fieldMap.isDestMapNull()) {
                     result.add(destValue);
+                    if (mergeIndex != null) {
+                        mergeIndex.add(destValue);
+                    }
                 }
                 mappedElements.add(destValue);
             }
@@ -933,29 +1206,33 @@ public class MappingProcessor implements Mapper {
     }
 
     static void removeOrphans(Collection<?> mappedElements, List<Object> result) {
-        for (Iterator<?> iterator = result.iterator(); iterator.hasNext();) {
-            Object object = iterator.next();
-            if (!mappedElements.contains(object)) {
-                iterator.remove();
-            }
-        }
+        // membership is checked through indexes, so both passes are linear for elements with a consistent hashCode
+        CollectionMergeIndex mapped = CollectionMergeIndex.forList(mappedElements);
+        result.removeIf(object -> !mapped.contains(object));
+
+        CollectionMergeIndex remaining = CollectionMergeIndex.forList(result);
         for (Object object : mappedElements) {
-            if (!result.contains(object)) {
+            if (!remaining.contains(object)) {
                 result.add(object);
+                remaining.add(object);
             }
         }
     }
 
     static List<?> prepareDestinationList(Collection<?> srcCollectionValue, Object field) {
+        return prepareDestinationList(srcCollectionValue.size(), field);
+    }
+
+    static List<?> prepareDestinationList(int size, Object field) {
         if (field == null) {
-            return new ArrayList<>(srcCollectionValue.size());
+            return new ArrayList<>(size);
         } else {
             if (CollectionUtils.isList(field.getClass())) {
                 return (List<?>)field;
             } else if (CollectionUtils.isArray(field.getClass())) {
                 return new ArrayList<>(Arrays.asList((Object[])field));
             } else { // assume it is neither - safest way is to create new List
-                return new ArrayList<>(srcCollectionValue.size());
+                return new ArrayList<>(size);
             }
         }
     }
@@ -977,6 +1254,15 @@ public class MappingProcessor implements Mapper {
         }
         List<?> srcValueList;
         if (CollectionUtils.isPrimitiveArray(srcCollectionValue.getClass())) {
+            Class<?> srcEntryType = srcCollectionValue.getClass().getComponentType();
+            Class<?> destPrimitiveType = ClassUtils.wrapperToPrimitive(destEntryType);
+            if (destEntryType.isPrimitive()) {
+                destPrimitiveType = destEntryType;
+            }
+            if (destPrimitiveType != null && PrimitiveArrays.canCopy(srcEntryType, destPrimitiveType) && isAppendOnly(fieldMap)
+                && isPlainPrimitiveConversion(fieldMap, srcEntryType, destEntryType)) {
+                return addPrimitiveArrayToList(srcCollectionValue, destPrimitiveType, fieldMap.getDestValue(destObj));
+            }
             srcValueList = CollectionUtils.convertPrimitiveArrayToList(srcCollectionValue);
         } else {
             srcValueList = Arrays.asList((Object[])srcCollectionValue);
@@ -984,6 +1270,18 @@ public class MappingProcessor implements Mapper {
         return addOrUpdateToList(srcObj, fieldMap, srcValueList, destObj, destEntryType);
     }
 
+    private List<?> addPrimitiveArrayToList(Object srcCollectionValue, Class<?> destPrimitiveType, Object field) {
+        int size = Array.getLength(srcCollectionValue);
+        Object converted = srcCollectionValue;
+        if (srcCollectionValue.getClass().getComponentType() != destPrimitiveType) {
+            converted = Array.newInstance(destPrimitiveType, size);
+            PrimitiveArrays.copy(srcCollectionValue, converted, 0);
+        }
+        List<Object> result = (List<Object>)prepareDestinationList(size, field);
+        PrimitiveArrays.addAll(converted, result);
+        return result;
+    }
+
     private void writeDestinationValue(Object destObj, Object destFieldValue, FieldMap fieldMap, Object srcObj) {
         boolean bypass = false;
         // don't map null to dest field if map-null="false"
@@ -1003,13 +1301,17 @@ public class MappingProcessor implements Mapper {
         }
 
         if (!bypass) {
-            eventManager.on(new DefaultEvent(EventTypes.MAPPING_PRE_WRITING_DEST_VALUE, fieldMap.getClassMap(), fieldMap, srcObj,
-                                             destObj, destFieldValue));
+            if (preWritingSubscribed) {
+                eventManager.on(new DefaultEvent(EventTypes.MAPPING_PRE_WRITING_DEST_VALUE, fieldMap.getClassMap(), fieldMap, srcObj,
+                                                 destObj, destFieldValue));
+            }
 
             fieldMap.writeDestValue(destObj, destFieldValue);
 
-            eventManager.on(new DefaultEvent(EventTypes.MAPPING_POST_WRITING_DEST_VALUE, fieldMap.getClassMap(), fieldMap, srcObj,
-                                             destObj, destFieldValue));
+            if (postWritingSubscribed) {
+                eventManager.on(new DefaultEvent(EventTypes.MAPPING_POST_WRITING_DEST_VALUE, fieldMap.getClassMap(), fieldMap, srcObj,
+                                                 destObj, destFieldValue));
+            }
         }
     }
 
@@ -1047,26 +1349,9 @@ public class MappingProcessor implements Mapper {
         return result;
     }
 
-    // TODO: possibly extract this to a separate class
-
     private Object mapUsingCustomConverter(Class<?> customConverterClass, Class<?> srcFieldClass, Object srcFieldValue,
                                            Class<?> destFieldClass, Object existingDestFieldValue, FieldMap fieldMap, boolean topLevel) {
-        CustomConverter converterInstance = null;
-        // search our injected customconverters for a match
-        if (customConverterObjects != null) {
-            for (CustomConverter customConverterObject : customConverterObjects) {
-                if (customConverterClass.isInstance(customConverterObject)) {
-                    // we have a match
-                    converterInstance = customConverterObject;
-                }
-            }
-        }
-        // if converter object instances were not injected, then create new instance
-        // of the converter for each conversion
-        // TODO : Should we really create it each time?
-        if (converterInstance == null) {
-            converterInstance = (CustomConverter)ReflectionUtils.newInstance(customConverterClass);
-        }
+        CustomConverter converterInstance = customConverterRegistry.getConverter(customConverterClass);
         return mapUsingCustomConverterInstance(converterInstance, srcFieldClass, srcFieldValue, destFieldClass, existingDestFieldValue,
                                                fieldMap, topLevel);
     }
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import com.github.dozermapper.core.util.MappingUtils;
+import com.github.dozermapper.core.util.MappingValidator;
+
+/**
+ * Internal class that splits a batch into contiguous chunks, maps every chunk with
+ * {@link Mapper#mapAll(Iterable, Class, String)} on an {@link Executor} and joins the results in the original order.
+ * Every chunk is mapped by its own mapping processor, so workers only share the thread safe state of the mapper.
+ * Only intended for internal use.
+ */
+final class ParallelBatchMapper {
+
+    // below this many elements per chunk the hand-off costs more than it saves
+    static final int MIN_CHUNK_SIZE = 64;
+
+    // chunks per worker, so that workers finishing early can pick up more work
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    private ParallelBatchMapper() {
+    }
+
+    static <T> List<T> mapAll(Mapper mapper, Collection<?> srcObjs, Class<T> destClass, String mapId, Executor executor) {
+        return mapAll(() -> mapper, srcObjs, destClass, mapId, executor);
+    }
+
+    /**
+     * Maps the batch like {@link #mapAll(Mapper, Collection, Class, String, Executor)}, but every chunk is mapped by
+     * the mapper the supplier returns for it.
+     */
+    static <T> List<T> mapAll(Supplier<? extends Mapper> chunkMappers, Collection<?> srcObjs, Class<T> destClass, String mapId, Executor executor) {
+        MappingValidator.validateMappingRequest(srcObjs, destClass);
+        if (executor == null) {
+            MappingUtils.throwMappingException("Executor must not be null");
+        }
+
+        List<Object> elements = Arrays.asList(srcObjs.toArray());
+        int parallelism = getParallelism(executor);
+        int chunkCount = Math.min(parallelism * CHUNKS_PER_WORKER, elements.size() / MIN_CHUNK_SIZE);
+        if (parallelism <= 1 || chunkCount <= 1) {
+            return chunkMappers.get().mapAll(elements, destClass, mapId);
+        }
+
+        List<CompletableFuture<List<T>>> chunks = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            List<Object> chunk = elements.subList(chunkStart(elements.size(), chunkCount, i), chunkStart(elements.size(), chunkCount, i + 1));
+            Mapper mapper = chunkMappers.get();
+            chunks.add(CompletableFuture.supplyAsync(() -> mapper.mapAll(chunk, destClass, mapId), executor));
+        }
+
+        List<T> results = new ArrayList<>(elements.size());
+        for (CompletableFuture<List<T>> chunk : chunks) {
+            try {
+                results.addAll(chunk.join());
+            } catch (CompletionException e) {
+                // chunks which did not start yet are skipped
+                for (CompletableFuture<List<T>> pending : chunks) {
+                    pending.cancel(false);
+                }
+                if (e.getCause() instanceof Error) {
+                    throw (Error)e.getCause();
+                }
+                MappingUtils.throwMappingException(e.getCause());
+            }
+        }
+        return results;
+    }
+
+    private static int chunkStart(int size, int chunkCount, int chunk) {
+        return (int)((long)size * chunk / chunkCount);
+    }
+
+    private static int getParallelism(Executor executor) {
+        if (executor instanceof ForkJoinPool) {
+            return ((ForkJoinPool)executor).getParallelism();
+        }
+        // the size of other executors is unknown, but they were handed in to run the batch
+        return Math.max(Runtime.getRuntime().availableProcessors(), 2);
+    }
+}
@@ -36,9 +36,20 @@ public final class DestBeanBuilderCreator {
     }
 
     public BeanBuilder create(BeanCreationDirective directive) {
+        BeanBuilderCreationStrategy strategy = findStrategy(directive);
+        return strategy != null ? strategy.create(directive) : null;
+    }
+
+    /**
+     * Finds the strategy {@link #create(BeanCreationDirective)} would use for the directive
+     *
+     * @param directive creation directive
+     * @return first applicable strategy or null if the destination is not created by a builder
+     */
+    public BeanBuilderCreationStrategy findStrategy(BeanCreationDirective directive) {
         for (BeanBuilderCreationStrategy strategy : new CopyOnWriteArrayList<>(pluggedStrategies)) {
             if (strategy.isApplicable(directive)) {
-                return strategy.create(directive);
+                return strategy;
             }
         }
 
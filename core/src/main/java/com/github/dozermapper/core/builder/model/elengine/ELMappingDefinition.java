@@ -64,6 +64,7 @@ public class ELMappingDefinition extends MappingDefinition {
             this.type = copy.getType();
             this.relationshipType = copy.getRelationshipType();
             this.mapId = copy.getMapId();
+            this.treeMode = copy.getTreeMode();
         }
     }
 
@@ -140,6 +140,9 @@ public class MappingDefinition {
     @XmlAttribute(name = "map-id")
     protected String mapId;
 
+    @XmlAttribute(name = "tree-mode")
+    protected Boolean treeMode;
+
     public MappingDefinition() {
         this(null);
     }
@@ -252,6 +255,12 @@ public class MappingDefinition {
         return this;
     }
 
+    public MappingDefinition withTreeMode(Boolean treeMode) {
+        setTreeMode(treeMode);
+
+        return this;
+    }
+
     public MappingsDefinition end() {
         return parent;
     }
@@ -279,6 +288,11 @@ public class MappingDefinition {
         current.setStopOnErrors(stopOnErrors);
         current.setTrimStrings(trimStrings);
         current.setMapId(mapId);
+
+        if (treeMode != null) {
+            current.setTreeMode(treeMode);
+        }
+
         current.setRelationshipType(RelationshipType.valueOf(relationshipType == null ? Relationship.CUMULATIVE.value() : relationshipType.value()));
         current.setFieldMaps(convertFieldMap(current, beanContainer, destBeanCreator, propertyDescriptorFactory));
 
@@ -455,4 +469,12 @@ public class MappingDefinition {
     protected void setMapId(String mapId) {
         this.mapId = mapId;
     }
+
+    public Boolean getTreeMode() {
+        return treeMode;
+    }
+
+    protected void setTreeMode(Boolean treeMode) {
+        this.treeMode = treeMode;
+    }
 }
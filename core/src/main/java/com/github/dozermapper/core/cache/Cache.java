@@ -76,4 +76,13 @@ public interface Cache<KeyType, ValueType> {
      * @return true if this map contains a mapping for the specified key.
      */
     boolean containsKey(KeyType key);
+
+    /**
+     * Returns the hit, miss, load and eviction counts since the cache was created
+     *
+     * @return counts of the cache, all 0 if the cache does not count them
+     */
+    default CacheStatistics getStatistics() {
+        return new CacheStatistics(0, 0, 0, 0);
+    }
 }
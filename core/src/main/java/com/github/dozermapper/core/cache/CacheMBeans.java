@@ -0,0 +1,156 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.cache;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import com.github.dozermapper.core.util.MappingUtils;
+
+/**
+ * Registers a {@link CacheStatisticsMBean} for every cache of a {@link CacheManager}, named
+ * {@code com.github.dozermapper.core:type=Cache,mapper=<mapper name>,name=<cache name>}.
+ * <p>
+ * Every mapper has caches of its own, so the mapper name tells the caches of several mappers apart. The beans keep
+ * the caches reachable until they are unregistered again.
+ */
+public final class CacheMBeans {
+
+    /**
+     * Domain of the registered beans
+     */
+    public static final String DOMAIN = "com.github.dozermapper.core";
+
+    private CacheMBeans() {
+    }
+
+    /**
+     * Registers the caches at the platform MBean server
+     *
+     * @param cacheManager cache manager of the mapper
+     * @param mapperName   name of the mapper
+     * @return names of the registered beans
+     */
+    public static List<ObjectName> register(CacheManager cacheManager, String mapperName) {
+        return register(cacheManager, mapperName, ManagementFactory.getPlatformMBeanServer());
+    }
+
+    /**
+     * Registers the caches at the given MBean server
+     *
+     * @param cacheManager cache manager of the mapper
+     * @param mapperName   name of the mapper
+     * @param server       server to register the beans at
+     * @return names of the registered beans
+     */
+    public static List<ObjectName> register(CacheManager cacheManager, String mapperName, MBeanServer server) {
+        List<ObjectName> names = new ArrayList<>();
+        try {
+            for (Cache cache : cacheManager.getCaches()) {
+                ObjectName name = new ObjectName(DOMAIN + ":type=Cache,mapper=" + ObjectName.quote(mapperName)
+                                                 + ",name=" + ObjectName.quote(cache.getName()));
+                server.registerMBean(new StandardMBean(new CacheStatisticsView(cache), CacheStatisticsMBean.class), name);
+                names.add(name);
+            }
+        } catch (JMException e) {
+            MappingUtils.throwMappingException(e);
+        }
+
+        return names;
+    }
+
+    /**
+     * Unregisters the caches of a mapper from the platform MBean server
+     *
+     * @param mapperName name of the mapper
+     */
+    public static void unregister(String mapperName) {
+        unregister(mapperName, ManagementFactory.getPlatformMBeanServer());
+    }
+
+    /**
+     * Unregisters the caches of a mapper from the given MBean server
+     *
+     * @param mapperName name of the mapper
+     * @param server     server the beans were registered at
+     */
+    public static void unregister(String mapperName, MBeanServer server) {
+        try {
+            ObjectName pattern = new ObjectName(DOMAIN + ":type=Cache,mapper=" + ObjectName.quote(mapperName) + ",*");
+            Set<ObjectName> names = server.queryNames(pattern, null);
+            for (ObjectName name : names) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            MappingUtils.throwMappingException(e);
+        }
+    }
+
+    private static final class CacheStatisticsView implements CacheStatisticsMBean {
+
+        private final Cache cache;
+
+        CacheStatisticsView(Cache cache) {
+            this.cache = cache;
+        }
+
+        @Override
+        public String getName() {
+            return cache.getName();
+        }
+
+        @Override
+        public long getSize() {
+            return cache.getSize();
+        }
+
+        @Override
+        public int getMaxSize() {
+            return cache.getMaxSize();
+        }
+
+        @Override
+        public long getHitCount() {
+            return cache.getStatistics().getHitCount();
+        }
+
+        @Override
+        public long getMissCount() {
+            return cache.getStatistics().getMissCount();
+        }
+
+        @Override
+        public long getLoadCount() {
+            return cache.getStatistics().getLoadCount();
+        }
+
+        @Override
+        public long getEvictionCount() {
+            return cache.getStatistics().getEvictionCount();
+        }
+
+        @Override
+        public double getHitRate() {
+            return cache.getStatistics().getHitRate();
+        }
+    }
+}
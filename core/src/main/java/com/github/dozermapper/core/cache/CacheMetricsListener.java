@@ -0,0 +1,56 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.cache;
+
+/**
+ * Callback which is notified of every hit, miss, load and eviction of the caches created by {@link DefaultCacheManager},
+ * for example to feed them into a metrics library. Methods are called on the thread using the cache while mapping,
+ * so they should only count the event.
+ */
+public interface CacheMetricsListener {
+
+    /**
+     * Called when a lookup found a value
+     *
+     * @param cacheName name of the cache
+     */
+    default void onHit(String cacheName) {
+    }
+
+    /**
+     * Called when a lookup found no value
+     *
+     * @param cacheName name of the cache
+     */
+    default void onMiss(String cacheName) {
+    }
+
+    /**
+     * Called when a value was put into the cache
+     *
+     * @param cacheName name of the cache
+     */
+    default void onLoad(String cacheName) {
+    }
+
+    /**
+     * Called when an entry was removed to stay within the maximum size
+     *
+     * @param cacheName name of the cache
+     */
+    default void onEviction(String cacheName) {
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.cache;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Snapshot of the hit, miss, load and eviction counts of a {@link Cache}
+ */
+public final class CacheStatistics {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long loadCount;
+    private final long evictionCount;
+
+    /**
+     * Snapshot of the counts of a cache
+     *
+     * @param hitCount      number of lookups which found a value
+     * @param missCount     number of lookups which found no value
+     * @param loadCount     number of values put into the cache
+     * @param evictionCount number of entries removed to stay within the maximum size
+     */
+    public CacheStatistics(long hitCount, long missCount, long loadCount, long evictionCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.loadCount = loadCount;
+        this.evictionCount = evictionCount;
+    }
+
+    /**
+     * Returns the number of lookups which found a value
+     *
+     * @return number of lookups which found a value
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups which found no value
+     *
+     * @return number of lookups which found no value
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of values put into the cache
+     *
+     * @return number of values put into the cache
+     */
+    public long getLoadCount() {
+        return loadCount;
+    }
+
+    /**
+     * Returns the number of entries removed to stay within the maximum size
+     *
+     * @return number of entries removed to stay within the maximum size
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the number of lookups
+     *
+     * @return number of lookups
+     */
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Returns the share of lookups which found a value, 0 if there were no lookups
+     *
+     * @return share of lookups which found a value, between 0 and 1
+     */
+    public double getHitRate() {
+        long requestCount = getRequestCount();
+        return requestCount == 0 ? 0d : (double)hitCount / requestCount;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("hitCount", hitCount)
+                .append("missCount", missCount)
+                .append("loadCount", loadCount)
+                .append("evictionCount", evictionCount)
+                .toString();
+    }
+}
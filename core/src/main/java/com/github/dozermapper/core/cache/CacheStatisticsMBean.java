@@ -0,0 +1,78 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.cache;
+
+/**
+ * JMX view of the size and the counts of a single {@link Cache}, registered through {@link CacheMBeans}
+ */
+public interface CacheStatisticsMBean {
+
+    /**
+     * Returns the name of the cache
+     *
+     * @return name of the cache
+     */
+    String getName();
+
+    /**
+     * Returns the number of entries in the cache
+     *
+     * @return number of entries in the cache
+     */
+    long getSize();
+
+    /**
+     * Returns the maximum number of entries which the cache can hold
+     *
+     * @return maximum number of entries which the cache can hold
+     */
+    int getMaxSize();
+
+    /**
+     * Returns the number of lookups which found a value
+     *
+     * @return number of lookups which found a value
+     */
+    long getHitCount();
+
+    /**
+     * Returns the number of lookups which found no value
+     *
+     * @return number of lookups which found no value
+     */
+    long getMissCount();
+
+    /**
+     * Returns the number of values put into the cache
+     *
+     * @return number of values put into the cache
+     */
+    long getLoadCount();
+
+    /**
+     * Returns the number of entries removed to stay within the maximum size
+     *
+     * @return number of entries removed to stay within the maximum size
+     */
+    long getEvictionCount();
+
+    /**
+     * Returns the share of lookups which found a value
+     *
+     * @return share of lookups which found a value, between 0 and 1
+     */
+    double getHitRate();
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.cache;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Thread safe cache backed by a {@link ConcurrentHashMap}, which keeps frequently used entries when it is full.
+ * <p>
+ * Lookups do not lock. Entries are evicted in insertion order, but a new entry only replaces the oldest one if it
+ * was accessed more often according to a {@link FrequencySketch} (TinyLFU admission), so a burst of keys which are
+ * used once does not flush entries which are used all the time. Hits and puts count as accesses, misses do not.
+ * The oldest entry is moved to the back of the queue when it is kept. Eviction holds a {@link ReentrantLock} rather
+ * than a monitor, so it does not pin virtual threads.
+ *
+ * @param <KeyType>   type of key being stored
+ * @param <ValueType> java of value being stored
+ */
+public class ConcurrentCache<KeyType, ValueType> implements Cache<KeyType, ValueType> {
+
+    private final String name;
+    private final int maximumSize;
+    private final ConcurrentMap<KeyType, Node<KeyType, ValueType>> data;
+    private final Queue<Node<KeyType, ValueType>> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final FrequencySketch sketch;
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final StatisticsCounter statistics;
+
+    /**
+     * Thread safe cache with frequency based eviction
+     *
+     * @param name        unique cache name
+     * @param maximumSize maximum cache size
+     */
+    public ConcurrentCache(final String name, final int maximumSize) {
+        this(name, maximumSize, null);
+    }
+
+    /**
+     * Thread safe cache with frequency based eviction
+     *
+     * @param name        unique cache name
+     * @param maximumSize maximum cache size
+     * @param listener    listener notified of hits, misses, loads and evictions, may be null
+     */
+    public ConcurrentCache(final String name, final int maximumSize, final CacheMetricsListener listener) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Dozer cache max size must be greater than 0");
+        }
+
+        this.name = name;
+        this.maximumSize = maximumSize;
+        this.data = new ConcurrentHashMap<>(Math.min(maximumSize, 1024));
+        this.sketch = new FrequencySketch(maximumSize);
+        this.statistics = new StatisticsCounter(name, listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        evictionLock.lock();
+        try {
+            data.clear();
+            insertionOrder.clear();
+            sketch.clear();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(KeyType key, ValueType value) {
+        if (key == null) {
+            throw new IllegalArgumentException("Cache entry key cannot be null");
+        }
+
+        sketch.increment(key);
+        statistics.recordLoad();
+        Node<KeyType, ValueType> existing = data.get(key);
+        if (existing != null) {
+            existing.value = value;
+            return;
+        }
+
+        Node<KeyType, ValueType> node = new Node<>(key, value);
+        existing = data.putIfAbsent(key, node);
+        if (existing != null) {
+            existing.value = value;
+            return;
+        }
+
+        insertionOrder.offer(node);
+        if (data.size() > maximumSize) {
+            evict(node);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ValueType get(KeyType key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+
+        Node<KeyType, ValueType> node = data.get(key);
+        if (node == null) {
+            statistics.recordMiss();
+            return null;
+        }
+
+        statistics.recordHit();
+        sketch.increment(key);
+        return node.value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getSize() {
+        return data.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getMaxSize() {
+        return maximumSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(KeyType key) {
+        return data.containsKey(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CacheStatistics getStatistics() {
+        return statistics.snapshot();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("name", name)
+                .append("maximumSize", maximumSize)
+                .append("size", data.size())
+                .toString();
+    }
+
+    private void evict(Node<KeyType, ValueType> candidate) {
+        evictionLock.lock();
+        try {
+            while (data.size() > maximumSize) {
+                Node<KeyType, ValueType> victim = pollLive();
+                if (victim == null) {
+                    return;
+                }
+
+                if (victim != candidate && isLive(candidate) && sketch.frequency(victim.key) > sketch.frequency(candidate.key)) {
+                    // keep the more popular entry and give it another round
+                    remove(candidate);
+                    insertionOrder.offer(victim);
+                    candidate = null;
+                } else {
+                    remove(victim);
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void remove(Node<KeyType, ValueType> node) {
+        if (data.remove(node.key, node)) {
+            statistics.recordEviction();
+        }
+    }
+
+    // Oldest entry still in the cache, skipping entries which were removed meanwhile
+    private Node<KeyType, ValueType> pollLive() {
+        Node<KeyType, ValueType> node;
+        do {
+            node = insertionOrder.poll();
+        } while (node != null && !isLive(node));
+        return node;
+    }
+
+    private boolean isLive(Node<KeyType, ValueType> node) {
+        return node != null && data.get(node.key) == node;
+    }
+
+    private static final class Node<KeyType, ValueType> {
+
+        private final KeyType key;
+        private volatile ValueType value;
+
+        Node(KeyType key, ValueType value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
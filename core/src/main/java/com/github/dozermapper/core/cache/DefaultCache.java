@@ -31,6 +31,7 @@ public class DefaultCache<KeyType, ValueType> implements Cache<KeyType, ValueTyp
 
     private final String name;
     private final LRUMap cacheMap;
+    private final StatisticsCounter statistics;
 
     /**
      * Default cache manager implementation backed by {@link LRUMap}
@@ -39,12 +40,24 @@ public class DefaultCache<KeyType, ValueType> implements Cache<KeyType, ValueTyp
      * @param maximumSize maximum cache size
      */
     public DefaultCache(final String name, final int maximumSize) {
+        this(name, maximumSize, null);
+    }
+
+    /**
+     * Default cache manager implementation backed by {@link LRUMap}
+     *
+     * @param name        unique cache name
+     * @param maximumSize maximum cache size
+     * @param listener    listener notified of hits, misses, loads and evictions, may be null
+     */
+    public DefaultCache(final String name, final int maximumSize, final CacheMetricsListener listener) {
         if (maximumSize < 1) {
             throw new IllegalArgumentException("Dozer cache max size must be greater than 0");
         }
 
         this.name = name;
         this.cacheMap = new LRUMap(maximumSize); //Should be: Collections.synchronizedMap
+        this.statistics = new StatisticsCounter(name, listener);
     }
 
     /**
@@ -66,6 +79,7 @@ public class DefaultCache<KeyType, ValueType> implements Cache<KeyType, ValueTyp
 
         CacheEntry<KeyType, ValueType> cacheEntry = new CacheEntry<>(key, value);
         cacheMap.put(cacheEntry.getKey(), cacheEntry);
+        statistics.recordLoad();
     }
 
     /**
@@ -79,8 +93,10 @@ public class DefaultCache<KeyType, ValueType> implements Cache<KeyType, ValueTyp
 
         CacheEntry<KeyType, ValueType> result = cacheMap.get(key);
         if (result == null) {
+            statistics.recordMiss();
             return null;
         } else {
+            statistics.recordHit();
             return result.getValue();
         }
     }
@@ -117,6 +133,14 @@ public class DefaultCache<KeyType, ValueType> implements Cache<KeyType, ValueTyp
         return cacheMap.containsKey(key);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CacheStatistics getStatistics() {
+        return statistics.snapshot();
+    }
+
     @Override
     public String toString() {
         return ReflectionToStringBuilder.toString(this, ToStringStyle.MULTI_LINE_STYLE);
@@ -136,7 +160,11 @@ public class DefaultCache<KeyType, ValueType> implements Cache<KeyType, ValueTyp
 
         @Override
         protected boolean removeEldestEntry(Map.Entry<KeyType, CacheEntry<KeyType, ValueType>> eldest) {
-            return size() > maximumSize;
+            if (size() > maximumSize) {
+                statistics.recordEviction();
+                return true;
+            }
+            return false;
         }
 
         private int getMaximumSize() {
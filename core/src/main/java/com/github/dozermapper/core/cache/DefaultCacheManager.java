@@ -31,11 +31,34 @@ import com.github.dozermapper.core.util.MappingUtils;
 public final class DefaultCacheManager implements CacheManager {
 
     private final Map<String, Cache> cachesMap = new HashMap<>();
+    private final boolean concurrent;
+    private final CacheMetricsListener listener;
 
     /**
-     * {@inheritDoc}
+     * Cache manager creating {@link DefaultCache} instances
      */
     public DefaultCacheManager() {
+        this(false);
+    }
+
+    /**
+     * Cache manager creating {@link ConcurrentCache} instances if concurrent, otherwise {@link DefaultCache} instances
+     *
+     * @param concurrent whether to create caches which can be used by many threads at once
+     */
+    public DefaultCacheManager(boolean concurrent) {
+        this(concurrent, null);
+    }
+
+    /**
+     * Cache manager creating {@link ConcurrentCache} instances if concurrent, otherwise {@link DefaultCache} instances
+     *
+     * @param concurrent whether to create caches which can be used by many threads at once
+     * @param listener   listener notified of the hits, misses, loads and evictions of every cache, may be null
+     */
+    public DefaultCacheManager(boolean concurrent, CacheMetricsListener listener) {
+        this.concurrent = concurrent;
+        this.listener = listener;
     }
 
     /**
@@ -64,7 +87,7 @@ public final class DefaultCacheManager implements CacheManager {
      */
     @Override
     public Cache putCache(String name, int maxElementsInMemory) {
-        return putCache(new DefaultCache(name, maxElementsInMemory));
+        return putCache(concurrent ? new ConcurrentCache(name, maxElementsInMemory, listener) : new DefaultCache(name, maxElementsInMemory, listener));
     }
 
     private Cache putCache(Cache cache) throws MappingException {
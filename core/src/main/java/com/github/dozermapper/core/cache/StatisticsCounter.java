@@ -0,0 +1,69 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the events of a cache in striped counters, so threads sharing a cache do not contend on the counts,
+ * and passes them on to an optional {@link CacheMetricsListener}
+ */
+final class StatisticsCounter {
+
+    private final String cacheName;
+    private final CacheMetricsListener listener;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    StatisticsCounter(String cacheName, CacheMetricsListener listener) {
+        this.cacheName = cacheName;
+        this.listener = listener;
+    }
+
+    void recordHit() {
+        hitCount.increment();
+        if (listener != null) {
+            listener.onHit(cacheName);
+        }
+    }
+
+    void recordMiss() {
+        missCount.increment();
+        if (listener != null) {
+            listener.onMiss(cacheName);
+        }
+    }
+
+    void recordLoad() {
+        loadCount.increment();
+        if (listener != null) {
+            listener.onLoad(cacheName);
+        }
+    }
+
+    void recordEviction() {
+        evictionCount.increment();
+        if (listener != null) {
+            listener.onEviction(cacheName);
+        }
+    }
+
+    CacheStatistics snapshot() {
+        return new CacheStatistics(hitCount.sum(), missCount.sum(), loadCount.sum(), evictionCount.sum());
+    }
+}
@@ -49,6 +49,7 @@ public class ClassMap {
     private CustomConverterContainer customConverters;
     private String mapId;
     private RelationshipType relationshipType;
+    private boolean treeMode;
 
     public ClassMap(Configuration globalConfiguration) {
         this.globalConfiguration = globalConfiguration;
@@ -66,6 +67,20 @@ public class ClassMap {
         this.stopOnErrors = stopOnErrors;
     }
 
+    /**
+     * Objects mapped with a class map in tree mode are not tracked by identity, so shared references are mapped
+     * once per occurrence and cyclic object graphs are not supported.
+     *
+     * @return true if identity tracking is disabled for this class map
+     */
+    public boolean isTreeMode() {
+        return treeMode;
+    }
+
+    public void setTreeMode(boolean treeMode) {
+        this.treeMode = treeMode;
+    }
+
     public boolean isTrimStrings() {
         return trimStrings != null ? trimStrings.booleanValue() : globalConfiguration.getTrimStrings().booleanValue();
     }
@@ -16,12 +16,19 @@
 package com.github.dozermapper.core.classmap;
 
 import java.lang.reflect.Modifier;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+import com.github.dozermapper.core.cache.CacheKeyFactory;
 import com.github.dozermapper.core.config.BeanContainer;
 import com.github.dozermapper.core.util.MappingUtils;
 
@@ -34,36 +41,53 @@ import org.apache.commons.lang3.StringUtils;
  */
 public class ClassMappings {
 
-    // Cache key --> Mapping Structure
-    private ConcurrentMap<String, ClassMap> classMappings = new ConcurrentHashMap<>();
-    private ClassMapKeyFactory keyFactory;
-    private final BeanContainer beanContainer;
+    // Source class --> Destination class --> Mapping Structures by map id
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, ClassMapsByMapId>> classMappings = new ConcurrentHashMap<>();
+    private final ClassMapKeyFactory keyFactory;
+    private final ClassValue<Class<?>> realClasses;
+
+    // Mapping Structures by their own map id, used when a class pair has no mapping of its own
+    private final ClassMapIndex indexWithoutMapId = new ClassMapIndex();
+    private final ConcurrentMap<String, ClassMapIndex> indexByMapId = new ConcurrentHashMap<>();
+
+    // Cache key --> result of resolving a class pair through the hierarchy, replaced whenever a mapping is added
+    private volatile ConcurrentMap<Object, Optional<ClassMap>> resolvedMappings = new ConcurrentHashMap<>();
+
+    private final Object lock = new Object();
 
     public ClassMappings(BeanContainer beanContainer) {
-        this.beanContainer = beanContainer;
-        keyFactory = new ClassMapKeyFactory(beanContainer);
+        this.keyFactory = new ClassMapKeyFactory(beanContainer);
+        this.realClasses = new ClassValue<Class<?>>() {
+            @Override
+            protected Class<?> computeValue(Class<?> type) {
+                return MappingUtils.getRealClass(type, beanContainer);
+            }
+        };
     }
 
     // Default mappings. May be ovewritten due to multiple threads generating same mapping
     public void addDefault(Class<?> srcClass, Class<?> destClass, ClassMap classMap) {
-        classMappings.put(keyFactory.createKey(srcClass, destClass), classMap);
+        put(realClasses.get(srcClass), realClasses.get(destClass), null, classMap);
     }
 
     public void add(Class<?> srcClass, Class<?> destClass, ClassMap classMap) {
-        ClassMap result = classMappings.put(keyFactory.createKey(srcClass, destClass), classMap);
+        ClassMap result = put(realClasses.get(srcClass), realClasses.get(destClass), null, classMap);
         failOnDuplicate(result, classMap);
     }
 
     public void add(Class<?> srcClass, Class<?> destClass, String mapId, ClassMap classMap) {
-        ClassMap result = classMappings.put(keyFactory.createKey(srcClass, destClass, mapId), classMap);
+        ClassMap result = put(realClasses.get(srcClass), realClasses.get(destClass), mapId, classMap);
         failOnDuplicate(result, classMap);
     }
 
     public void addAll(ClassMappings additionalClassMappings) {
-        Map<String, ClassMap> newMappings = additionalClassMappings.getAll();
-        for (Entry<String, ClassMap> entry : newMappings.entrySet()) {
-            ClassMap result = classMappings.put(entry.getKey(), entry.getValue());
-            failOnDuplicate(result, entry.getValue());
+        for (Entry<Class<?>, ConcurrentMap<Class<?>, ClassMapsByMapId>> srcEntry : additionalClassMappings.classMappings.entrySet()) {
+            for (Entry<Class<?>, ClassMapsByMapId> destEntry : srcEntry.getValue().entrySet()) {
+                for (Entry<String, ClassMap> entry : destEntry.getValue().entries()) {
+                    ClassMap result = put(srcEntry.getKey(), destEntry.getKey(), entry.getKey(), entry.getValue());
+                    failOnDuplicate(result, entry.getValue());
+                }
+            }
         }
     }
 
@@ -74,74 +98,109 @@ public class ClassMappings {
         }
     }
 
+    /**
+     * Returns all class mappings by the keys created by {@link ClassMapKeyFactory}
+     *
+     * @return copy of all class mappings
+     */
     public Map<String, ClassMap> getAll() {
-        return new HashMap<>(classMappings);
+        Map<String, ClassMap> result = new HashMap<>();
+        for (Entry<Class<?>, ConcurrentMap<Class<?>, ClassMapsByMapId>> srcEntry : classMappings.entrySet()) {
+            for (Entry<Class<?>, ClassMapsByMapId> destEntry : srcEntry.getValue().entrySet()) {
+                for (Entry<String, ClassMap> entry : destEntry.getValue().entries()) {
+                    result.put(keyFactory.createKey(srcEntry.getKey(), destEntry.getKey(), entry.getKey()), entry.getValue());
+                }
+            }
+        }
+        return result;
     }
 
     public long size() {
-        return classMappings.size();
+        long size = 0;
+        for (ConcurrentMap<Class<?>, ClassMapsByMapId> byDestClass : classMappings.values()) {
+            for (ClassMapsByMapId classMaps : byDestClass.values()) {
+                size += classMaps.entries().size();
+            }
+        }
+        return size;
     }
 
     public ClassMap find(Class<?> srcClass, Class<?> destClass) {
-        return classMappings.get(keyFactory.createKey(srcClass, destClass));
+        return get(srcClass, destClass, null);
     }
 
     public boolean contains(Class<?> srcClass, Class<?> destClass, String mapId) {
-        String key = keyFactory.createKey(srcClass, destClass, mapId);
-        return classMappings.containsKey(key);
+        return get(srcClass, destClass, mapId) != null;
     }
 
     public ClassMap find(Class<?> srcClass, Class<?> destClass, String mapId) {
-        final String key = keyFactory.createKey(srcClass, destClass, mapId);
-        ClassMap mapping = classMappings.get(key);
-
-        if (mapping == null) {
-            mapping = findInterfaceMapping(destClass, srcClass, mapId);
-            if (mapping != null) {
-                ClassMap previous = classMappings.putIfAbsent(keyFactory.createKey(srcClass, destClass, mapId), mapping);
-                if (previous != null) {
-                    mapping = previous;
-                }
-            }
+        ClassMap mapping = get(srcClass, destClass, mapId);
+        if (mapping != null) {
+            return mapping;
+        }
+
+        ConcurrentMap<Object, Optional<ClassMap>> resolved = resolvedMappings;
+        Object key = CacheKeyFactory.createKey(destClass, srcClass, mapId);
+        Optional<ClassMap> result = resolved.get(key);
+        if (result == null) {
+            result = Optional.ofNullable(resolve(srcClass, destClass, mapId));
+            resolved.put(key, result);
+        }
+
+        // If map-id was specified and mapping was not found, then fail
+        if (!result.isPresent() && !MappingUtils.isBlankOrNull(mapId)) {
+            MappingUtils.throwMappingException("Class mapping not found by map-id: " + keyFactory.createKey(srcClass, destClass, mapId));
+        }
+
+        return result.orElse(null);
+    }
+
+    private ClassMap resolve(Class<?> srcClass, Class<?> destClass, String mapId) {
+        ClassMap mapping = findInterfaceMapping(destClass, srcClass, mapId);
+        if (mapping != null) {
+            ClassMap previous = putIfAbsent(realClasses.get(srcClass), realClasses.get(destClass), mapId, mapping);
+            return previous != null ? previous : mapping;
         }
 
         // one more try...
         // if the mapId is not null looking up a map is easy
-        if (!MappingUtils.isBlankOrNull(mapId) && mapping == null) {
-            // probably a more efficient way to do this...
-            for (Entry<String, ClassMap> entry : classMappings.entrySet()) {
-                ClassMap classMap = entry.getValue();
-                if (StringUtils.equals(classMap.getMapId(), mapId)
-                    && classMap.getSrcClassToMap().isAssignableFrom(srcClass)
-                    && classMap.getDestClassToMap().isAssignableFrom(destClass)) {
-                    return classMap;
-                } else if (StringUtils.equals(classMap.getMapId(), mapId) && srcClass.equals(destClass)) {
-                    return classMap;
+        if (!MappingUtils.isBlankOrNull(mapId)) {
+            ClassMapIndex index = indexByMapId.get(mapId);
+            if (index != null) {
+                for (ClassMap classMap : index.all) {
+                    if (classMap.getSrcClassToMap().isAssignableFrom(srcClass)
+                        && classMap.getDestClassToMap().isAssignableFrom(destClass)) {
+                        return classMap;
+                    } else if (srcClass.equals(destClass)) {
+                        return classMap;
+                    }
                 }
             }
-
-            // If map-id was specified and mapping was not found, then fail
-            MappingUtils.throwMappingException("Class mapping not found by map-id: " + key);
         }
 
-        return mapping;
+        return null;
     }
 
     // Look for an interface mapping
     private ClassMap findInterfaceMapping(Class<?> destClass, Class<?> srcClass, String mapId) {
-        // Use object array for keys to avoid any rare thread synchronization issues
-        // while iterating over the custom mappings.
-        // See bug #1550275.
-        Object[] keys = classMappings.keySet().toArray();
-        for (Object key : keys) {
-            ClassMap map = classMappings.get(key);
+        ClassMapIndex index = mapId == null ? indexWithoutMapId : indexByMapId.get(mapId);
+        if (index == null) {
+            return null;
+        }
+
+        ClassMap map = findInterfaceMapping(destClass, srcClass, index.withInterfaces);
+        if (map == null) {
+            // only mappings of the source class itself can provide a concrete type for an abstract destination
+            map = findInterfaceMapping(destClass, srcClass, index.bySrcClass.getOrDefault(realClasses.get(srcClass), Collections.emptyList()));
+        }
+        return map;
+    }
+
+    private ClassMap findInterfaceMapping(Class<?> destClass, Class<?> srcClass, List<ClassMap> candidates) {
+        for (ClassMap map : candidates) {
             Class<?> mappingDestClass = map.getDestClassToMap();
             Class<?> mappingSrcClass = map.getSrcClassToMap();
 
-            if ((mapId == null && map.getMapId() != null) || (mapId != null && !mapId.equals(map.getMapId()))) {
-                continue;
-            }
-
             if (isInterfaceImplementation(srcClass, mappingSrcClass)) {
                 if (isInterfaceImplementation(destClass, mappingDestClass)) {
                     return map;
@@ -153,7 +212,7 @@ public class ClassMappings {
             // Destination could be an abstract type. Picking up the best concrete type to use.
             if ((destClass.isAssignableFrom(mappingDestClass) && isAbstract(destClass))
                 || (isInterfaceImplementation(destClass, mappingDestClass))) {
-                if (MappingUtils.getRealClass(srcClass, beanContainer).equals(mappingSrcClass)) {
+                if (realClasses.get(srcClass).equals(mappingSrcClass)) {
                     return map;
                 }
             }
@@ -162,6 +221,52 @@ public class ClassMappings {
         return null;
     }
 
+    private ClassMap get(Class<?> srcClass, Class<?> destClass, String mapId) {
+        ConcurrentMap<Class<?>, ClassMapsByMapId> byDestClass = classMappings.get(realClasses.get(srcClass));
+        if (byDestClass == null) {
+            return null;
+        }
+        ClassMapsByMapId classMaps = byDestClass.get(realClasses.get(destClass));
+        return classMaps != null ? classMaps.get(mapId) : null;
+    }
+
+    private ClassMap put(Class<?> srcRealClass, Class<?> destRealClass, String mapId, ClassMap classMap) {
+        synchronized (lock) {
+            ClassMap previous = getOrCreate(srcRealClass, destRealClass).put(mapId, classMap, false);
+            if (previous != classMap) {
+                if (previous != null && !isAlias(previous, srcRealClass, destRealClass)) {
+                    getIndex(previous).remove(previous);
+                }
+                getIndex(classMap).add(classMap);
+            }
+            resolvedMappings = new ConcurrentHashMap<>();
+            return previous;
+        }
+    }
+
+    // Adds an alias for a mapping resolved through the hierarchy. It is neither indexed again nor does it change
+    // the outcome of resolving any other class pair.
+    private ClassMap putIfAbsent(Class<?> srcRealClass, Class<?> destRealClass, String mapId, ClassMap classMap) {
+        synchronized (lock) {
+            return getOrCreate(srcRealClass, destRealClass).put(mapId, classMap, true);
+        }
+    }
+
+    // Aliases are stored for class pairs other than the one of their mapping
+    private static boolean isAlias(ClassMap classMap, Class<?> srcRealClass, Class<?> destRealClass) {
+        return !srcRealClass.equals(classMap.getSrcClassToMap()) || !destRealClass.equals(classMap.getDestClassToMap());
+    }
+
+    private ClassMapIndex getIndex(ClassMap classMap) {
+        String mapId = classMap.getMapId();
+        return mapId == null ? indexWithoutMapId : indexByMapId.computeIfAbsent(mapId, key -> new ClassMapIndex());
+    }
+
+    private ClassMapsByMapId getOrCreate(Class<?> srcRealClass, Class<?> destRealClass) {
+        return classMappings.computeIfAbsent(srcRealClass, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(destRealClass, key -> new ClassMapsByMapId());
+    }
+
     private boolean isInterfaceImplementation(Class<?> type, Class<?> mappingType) {
         return mappingType.isInterface() && mappingType.isAssignableFrom(type);
     }
@@ -170,4 +275,79 @@ public class ClassMappings {
         return Modifier.isAbstract(destClass.getModifiers());
     }
 
+    /**
+     * Class mappings of one source and destination class pair. The mapping without map id is kept in a field of its own,
+     * as most pairs only have that one. Lookups do not lock, changes are made while holding the lock of the ClassMappings.
+     */
+    private static final class ClassMapsByMapId {
+
+        private volatile ClassMap withoutMapId;
+        private volatile Map<String, ClassMap> byMapId = Collections.emptyMap();
+
+        ClassMap get(String mapId) {
+            return StringUtils.isEmpty(mapId) ? withoutMapId : byMapId.get(mapId);
+        }
+
+        ClassMap put(String mapId, ClassMap classMap, boolean onlyIfAbsent) {
+            ClassMap previous = get(mapId);
+            if (previous != null && onlyIfAbsent) {
+                return previous;
+            }
+
+            if (StringUtils.isEmpty(mapId)) {
+                withoutMapId = classMap;
+            } else {
+                Map<String, ClassMap> copy = new HashMap<>(byMapId);
+                copy.put(mapId, classMap);
+                byMapId = copy;
+            }
+            return previous;
+        }
+
+        List<Entry<String, ClassMap>> entries() {
+            List<Entry<String, ClassMap>> result = new ArrayList<>(byMapId.size() + 1);
+            ClassMap classMap = withoutMapId;
+            if (classMap != null) {
+                result.add(new SimpleImmutableEntry<>(null, classMap));
+            }
+            result.addAll(byMapId.entrySet());
+            return result;
+        }
+    }
+
+    /**
+     * Mappings sharing a map id, indexed by the kinds of lookups done when a class pair has no mapping of its own.
+     * Changes are made while holding the lock of the ClassMappings.
+     */
+    private static final class ClassMapIndex {
+
+        private final List<ClassMap> all = new CopyOnWriteArrayList<>();
+        private final List<ClassMap> withInterfaces = new CopyOnWriteArrayList<>();
+        private final ConcurrentMap<Class<?>, List<ClassMap>> bySrcClass = new ConcurrentHashMap<>();
+
+        void add(ClassMap classMap) {
+            all.add(classMap);
+            if (isInterface(classMap.getSrcClassToMap()) || isInterface(classMap.getDestClassToMap())) {
+                withInterfaces.add(classMap);
+            }
+            if (classMap.getSrcClassToMap() != null) {
+                bySrcClass.computeIfAbsent(classMap.getSrcClassToMap(), key -> new CopyOnWriteArrayList<>()).add(classMap);
+            }
+        }
+
+        void remove(ClassMap classMap) {
+            all.remove(classMap);
+            withInterfaces.remove(classMap);
+            if (classMap.getSrcClassToMap() != null) {
+                List<ClassMap> sameSrcClass = bySrcClass.get(classMap.getSrcClassToMap());
+                if (sameSrcClass != null) {
+                    sameSrcClass.remove(classMap);
+                }
+            }
+        }
+
+        private static boolean isInterface(Class<?> type) {
+            return type != null && type.isInterface();
+        }
+    }
 }
@@ -24,6 +24,11 @@ public class Settings {
     private String classLoaderBeanName = SettingsDefaults.CLASS_LOADER_BEAN;
     private String proxyResolverBeanName = SettingsDefaults.PROXY_RESOLVER_BEAN;
     private Boolean useJaxbMappingEngine = SettingsDefaults.USE_JAXB_MAPPING_ENGINE;
+    private Boolean useCompiledMappingPlans = SettingsDefaults.USE_COMPILED_MAPPING_PLANS;
+    private Boolean treeMode = SettingsDefaults.TREE_MODE;
+    private Integer treeModeMaxDepth = SettingsDefaults.TREE_MODE_MAX_DEPTH;
+    private Boolean analyzeCycles = SettingsDefaults.ANALYZE_CYCLES;
+    private Boolean useConcurrentCache = SettingsDefaults.USE_CONCURRENT_CACHE;
 
     public Settings() {
 
@@ -58,6 +63,46 @@ public class Settings {
         return useJaxbMappingEngine;
     }
 
+    public Boolean getUseCompiledMappingPlans() {
+        return useCompiledMappingPlans;
+    }
+
+    public void setUseCompiledMappingPlans(Boolean useCompiledMappingPlans) {
+        this.useCompiledMappingPlans = useCompiledMappingPlans;
+    }
+
+    public Boolean getTreeMode() {
+        return treeMode;
+    }
+
+    public void setTreeMode(Boolean treeMode) {
+        this.treeMode = treeMode;
+    }
+
+    public Integer getTreeModeMaxDepth() {
+        return treeModeMaxDepth;
+    }
+
+    public void setTreeModeMaxDepth(Integer treeModeMaxDepth) {
+        this.treeModeMaxDepth = treeModeMaxDepth;
+    }
+
+    public Boolean getAnalyzeCycles() {
+        return analyzeCycles;
+    }
+
+    public void setAnalyzeCycles(Boolean analyzeCycles) {
+        this.analyzeCycles = analyzeCycles;
+    }
+
+    public Boolean getUseConcurrentCache() {
+        return useConcurrentCache;
+    }
+
+    public void setUseConcurrentCache(Boolean useConcurrentCache) {
+        this.useConcurrentCache = useConcurrentCache;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -66,6 +111,11 @@ public class Settings {
                 .append("classLoaderBeanName", classLoaderBeanName)
                 .append("proxyResolverBeanName", proxyResolverBeanName)
                 .append("useJaxbMappingEngine", useJaxbMappingEngine)
+                .append("useCompiledMappingPlans", useCompiledMappingPlans)
+                .append("treeMode", treeMode)
+                .append("treeModeMaxDepth", treeModeMaxDepth)
+                .append("analyzeCycles", analyzeCycles)
+                .append("useConcurrentCache", useConcurrentCache)
                 .toString();
     }
 }
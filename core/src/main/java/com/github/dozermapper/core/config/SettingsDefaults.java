@@ -28,4 +28,9 @@ public final class SettingsDefaults {
     public static final String CLASS_LOADER_BEAN = "com.github.dozermapper.core.util.DefaultClassLoader";
     public static final String PROXY_RESOLVER_BEAN = "com.github.dozermapper.core.util.DefaultProxyResolver";
     public static final Boolean USE_JAXB_MAPPING_ENGINE = true;
+    public static final Boolean USE_COMPILED_MAPPING_PLANS = false;
+    public static final Boolean TREE_MODE = false;
+    public static final Integer TREE_MODE_MAX_DEPTH = 512;
+    public static final Boolean ANALYZE_CYCLES = false;
+    public static final Boolean USE_CONCURRENT_CACHE = false;
 }
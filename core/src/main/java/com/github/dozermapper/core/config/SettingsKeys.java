@@ -27,9 +27,14 @@ public final class SettingsKeys {
 
     public static final String CONVERTER_BY_DEST_TYPE_CACHE_MAX_SIZE = "dozer.cache.converter-by-dest-type-maxsize";
     public static final String SUPER_TYPE_CHECK_CACHE_MAX_SIZE = "dozer.cache.super-type-maxsize";
+    public static final String USE_CONCURRENT_CACHE = "dozer.cache.concurrent";
     public static final String CLASS_LOADER_BEAN = "dozer.beans.class-loader-bean";
     public static final String PROXY_RESOLVER_BEAN = "dozer.beans.proxy-resolver-bean";
     public static final String USE_JAXB_MAPPING_ENGINE = "dozer.xml.use-jaxb-mapping-engine";
+    public static final String USE_COMPILED_MAPPING_PLANS = "dozer.mapping.use-compiled-plans";
+    public static final String TREE_MODE = "dozer.mapping.tree-mode";
+    public static final String TREE_MODE_MAX_DEPTH = "dozer.mapping.tree-mode.max-depth";
+    public static final String ANALYZE_CYCLES = "dozer.mapping.analyze-cycles";
 
     @Deprecated
     public static final String DEPRECATED_EL_ENABLED = "dozer.el.enabled";
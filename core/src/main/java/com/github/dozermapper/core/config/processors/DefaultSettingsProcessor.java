@@ -61,7 +61,25 @@ public class DefaultSettingsProcessor implements SettingsProcessor {
         Boolean useJaxbMappingEngine = Boolean.valueOf(getValue(SettingsKeys.USE_JAXB_MAPPING_ENGINE,
                                                                 SettingsDefaults.USE_JAXB_MAPPING_ENGINE).toString());
 
-        return new Settings(converterByDestTypeCacheMaxSize, superTypesCacheMaxSize, classLoaderBeanName, proxyResolverBeanName, useJaxbMappingEngine);
+        Boolean useCompiledMappingPlans = Boolean.valueOf(getValue(SettingsKeys.USE_COMPILED_MAPPING_PLANS,
+                                                                   SettingsDefaults.USE_COMPILED_MAPPING_PLANS).toString());
+
+        Boolean treeMode = Boolean.valueOf(getValue(SettingsKeys.TREE_MODE, SettingsDefaults.TREE_MODE).toString());
+
+        Integer treeModeMaxDepth = Integer.valueOf(getValue(SettingsKeys.TREE_MODE_MAX_DEPTH, SettingsDefaults.TREE_MODE_MAX_DEPTH).toString());
+
+        Boolean analyzeCycles = Boolean.valueOf(getValue(SettingsKeys.ANALYZE_CYCLES, SettingsDefaults.ANALYZE_CYCLES).toString());
+
+        Boolean useConcurrentCache = Boolean.valueOf(getValue(SettingsKeys.USE_CONCURRENT_CACHE, SettingsDefaults.USE_CONCURRENT_CACHE).toString());
+
+        Settings settings = new Settings(converterByDestTypeCacheMaxSize, superTypesCacheMaxSize, classLoaderBeanName, proxyResolverBeanName,
+                                         useJaxbMappingEngine);
+        settings.setUseCompiledMappingPlans(useCompiledMappingPlans);
+        settings.setTreeMode(treeMode);
+        settings.setTreeModeMaxDepth(treeModeMaxDepth);
+        settings.setAnalyzeCycles(analyzeCycles);
+        settings.setUseConcurrentCache(useConcurrentCache);
+        return settings;
     }
 
     private void createSettingsResolvers() {
@@ -30,6 +30,12 @@ import org.apache.commons.lang3.builder.ToStringStyle;
  */
 public class CustomConverterContainer {
 
+    /**
+     * Cached in place of null for class pairs without a custom converter, so a single lookup tells a cached miss
+     * from a class pair which has not been looked up yet.
+     */
+    private static final Class<?> NO_CONVERTER = NoConverter.class;
+
     private List<CustomConverterDescription> converters = new ArrayList<>();
 
     public List<CustomConverterDescription> getConverters() {
@@ -54,8 +60,9 @@ public class CustomConverterContainer {
 
         // Check cache first
         final Object cacheKey = CacheKeyFactory.createKey(destClass, srcClass);
-        if (converterTypeCache.containsKey(cacheKey)) { // even null
-            return (Class)converterTypeCache.get(cacheKey);
+        final Object cachedConverter = converterTypeCache.get(cacheKey);
+        if (cachedConverter != null) {
+            return cachedConverter == NO_CONVERTER ? null : (Class)cachedConverter;
         }
 
         // Let's see if the incoming class is a primitive:
@@ -63,7 +70,7 @@ public class CustomConverterContainer {
         final Class dest = ClassUtils.primitiveToWrapper(destClass);
 
         Class appropriateConverter = findConverter(src, dest);
-        converterTypeCache.put(cacheKey, appropriateConverter);
+        converterTypeCache.put(cacheKey, appropriateConverter != null ? appropriateConverter : NO_CONVERTER);
 
         return appropriateConverter;
     }
@@ -90,4 +97,7 @@ public class CustomConverterContainer {
         return ReflectionToStringBuilder.toString(this, ToStringStyle.MULTI_LINE_STYLE);
     }
 
+    private static final class NoConverter {
+    }
+
 }
@@ -27,11 +27,28 @@ import java.util.Locale;
 public class DateFormatContainer {
 
     private String dfStr;
-    private DateFormat dateFormat;
-    private DateTimeFormatter dateTimeFormatter;
+    private final Locale locale;
+    private final boolean threadSafe;
+    private volatile DateFormat dateFormat;
+    private volatile DateTimeFormatter dateTimeFormatter;
+    private boolean overridden;
 
     public DateFormatContainer(String dfStr) {
+        this(dfStr, Locale.getDefault(), false);
+    }
+
+    /**
+     * Creates a container which may be shared between threads if {@code threadSafe} is set. Its {@link DateFormat}
+     * then uses one {@link SimpleDateFormat} per thread.
+     *
+     * @param dfStr      date format pattern
+     * @param locale     locale of the date format
+     * @param threadSafe whether the container is shared between threads
+     */
+    DateFormatContainer(String dfStr, Locale locale, boolean threadSafe) {
         this.dfStr = dfStr;
+        this.locale = locale;
+        this.threadSafe = threadSafe;
     }
 
     /**
@@ -75,9 +92,32 @@ public class DateFormatContainer {
     @Deprecated
     public void setDateFormat(DateFormat dateFormat) {
         this.dateFormat = dateFormat;
+        this.overridden = true;
+    }
+
+    /**
+     * Date format pattern this container was created with.
+     *
+     * @return pattern or {@code null}
+     */
+    String getPattern() {
+        return dfStr;
+    }
+
+    /**
+     * Whether the date format was replaced using {@link #setDateFormat(DateFormat)}, in which case it does not
+     * match {@link #getPattern()}.
+     *
+     * @return {@code true} if replaced
+     */
+    boolean isOverridden() {
+        return overridden;
     }
 
     private DateFormat determineDateFormat() {
-        return dfStr == null ? null : new SimpleDateFormat(dfStr, Locale.getDefault());
+        if (dfStr == null) {
+            return null;
+        }
+        return threadSafe ? new ThreadSafeDateFormat(dfStr, locale) : new SimpleDateFormat(dfStr, locale);
     }
 }
@@ -27,6 +27,9 @@ import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import jakarta.xml.bind.JAXBElement;
 import javax.xml.datatype.XMLGregorianCalendar;
@@ -46,6 +49,11 @@ import org.apache.commons.lang3.ClassUtils;
 
 /**
  * Internal class for converting between wrapper types(including primitives). Only intended for internal use.
+ * <p>
+ * Converters are resolved once per source type, destination type and date format and then reused, so this class
+ * only holds converters which are safe to share between threads. Date formats are shared as well, see
+ * {@link DateFormatContainer}. Conversions which need a caller supplied {@link java.text.DateFormat} or the
+ * destination object are still resolved on every call.
  */
 public class PrimitiveOrWrapperConverter {
 
@@ -65,7 +73,18 @@ public class PrimitiveOrWrapperConverter {
         CONVERTER_MAP.put(Class.class, new ClassConverter());
     }
 
+    private static final ClassValue<Boolean> ACCEPTED = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return isPrimitiveOrWrapper(type);
+        }
+    };
+
     private final BeanContainer beanContainer;
+    private static final DateFormatContainer NO_DATE_FORMAT = new DateFormatContainer(null, Locale.ROOT, true);
+
+    private final ConcurrentMap<ConversionKey, Converter> converters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Locale, ConcurrentMap<String, DateFormatContainer>> dateFormats = new ConcurrentHashMap<>();
 
     public PrimitiveOrWrapperConverter(BeanContainer beanContainer) {
         this.beanContainer = beanContainer;
@@ -79,9 +98,40 @@ public class PrimitiveOrWrapperConverter {
         if (srcFieldValue == null || destFieldClass == null || (srcFieldValue.equals("") && !destFieldClass.equals(String.class))) {
             return null;
         }
-        Converter converter = getPrimitiveOrWrapperConverter(destFieldClass, dateFormatContainer, destFieldName, destObj);
+        Object value = unwrapSrcFieldValue(srcFieldValue);
+        Converter converter;
+        if (dateFormatContainer != null && dateFormatContainer.isOverridden()) {
+            converter = getPrimitiveOrWrapperConverter(destFieldClass, dateFormatContainer, destFieldName, destObj);
+        } else {
+            String dateFormat = dateFormatContainer == null ? null : dateFormatContainer.getPattern();
+            converter = getConverter(value.getClass(), destFieldClass, dateFormat, dateFormatContainer, destFieldName, destObj);
+        }
+        return convert(converter, destFieldClass, value);
+    }
+
+    /**
+     * Converts the value using the date format pattern of a field mapping, without creating a
+     * {@link DateFormatContainer} when the conversion does not need one.
+     *
+     * @param srcFieldValue  value to convert
+     * @param destFieldClass type to convert to
+     * @param dateFormat     date format pattern or {@code null}
+     * @param destFieldName  name of the destination field, only used for {@link JAXBElement} destinations
+     * @param destObj        destination object, only used for {@link JAXBElement} destinations
+     * @return converted value
+     */
+    public Object convert(Object srcFieldValue, Class destFieldClass, String dateFormat, String destFieldName, Object destObj) {
+        if (srcFieldValue == null || destFieldClass == null || (srcFieldValue.equals("") && !destFieldClass.equals(String.class))) {
+            return null;
+        }
+        Object value = unwrapSrcFieldValue(srcFieldValue);
+        Converter converter = getConverter(value.getClass(), destFieldClass, dateFormat, null, destFieldName, destObj);
+        return convert(converter, destFieldClass, value);
+    }
+
+    private Object convert(Converter converter, Class destFieldClass, Object value) {
         try {
-            return converter.convert(destFieldClass, unwrapSrcFieldValue(srcFieldValue));
+            return converter.convert(destFieldClass, value);
         } catch (org.apache.commons.beanutils.ConversionException e) {
             throw new com.github.dozermapper.core.converters.ConversionException(e);
         }
@@ -94,6 +144,50 @@ public class PrimitiveOrWrapperConverter {
         return srcFieldValue;
     }
 
+    private Converter getConverter(Class srcClass, Class destClass, String dateFormat, DateFormatContainer dateFormatContainer,
+                                   String destFieldName, Object destObj) {
+        DateFormatContainer format = getDateFormatContainer(dateFormat);
+        if (JAXBElement.class.isAssignableFrom(destClass) && destFieldName != null) {
+            // bound to the destination object, so it can not be shared
+            return getPrimitiveOrWrapperConverter(destClass, dateFormatContainer != null ? dateFormatContainer : format, destFieldName, destObj);
+        }
+
+        ConversionKey key = new ConversionKey(srcClass, destClass, format);
+        Converter result = converters.get(key);
+        if (result == null) {
+            result = converters.computeIfAbsent(key, k -> createSharedConverter(k.srcClass, k.destClass, k.format));
+        }
+        return result;
+    }
+
+    private Converter createSharedConverter(Class srcClass, Class destClass, DateFormatContainer format) {
+        Converter result = DirectConverter.find(srcClass, destClass, format.isPresent());
+        if (result == null) {
+            result = getPrimitiveOrWrapperConverter(destClass, format, null, null);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the shared, thread safe container for the pattern in the current default locale. Patterns come from the
+     * mapping configuration, so there is one container per field, class or global date format in use.
+     */
+    private DateFormatContainer getDateFormatContainer(String dateFormat) {
+        if (dateFormat == null) {
+            return NO_DATE_FORMAT;
+        }
+        Locale locale = Locale.getDefault();
+        ConcurrentMap<String, DateFormatContainer> byPattern = dateFormats.get(locale);
+        if (byPattern == null) {
+            byPattern = dateFormats.computeIfAbsent(locale, k -> new ConcurrentHashMap<>());
+        }
+        DateFormatContainer result = byPattern.get(dateFormat);
+        if (result == null) {
+            result = byPattern.computeIfAbsent(dateFormat, k -> new DateFormatContainer(k, locale, true));
+        }
+        return result;
+    }
+
     private Converter getPrimitiveOrWrapperConverter(Class destClass, DateFormatContainer dateFormatContainer, String destFieldName, Object destObj) {
         if (String.class.equals(destClass)) {
             return new StringConverter(dateFormatContainer);
@@ -126,6 +220,10 @@ public class PrimitiveOrWrapperConverter {
     }
 
     public boolean accepts(Class<?> aClass) {
+        return ACCEPTED.get(aClass);
+    }
+
+    private static boolean isPrimitiveOrWrapper(Class<?> aClass) {
         return aClass.isPrimitive()
                || Number.class.isAssignableFrom(aClass)
                || String.class.equals(aClass)
@@ -153,4 +251,142 @@ public class PrimitiveOrWrapperConverter {
         return OffsetDateTime.class.isAssignableFrom(clazz) ||
                OffsetTime.class.isAssignableFrom(clazz);
     }
+
+    private static final class ConversionKey {
+
+        private final Class srcClass;
+        private final Class destClass;
+        private final DateFormatContainer format;
+        private final int hash;
+
+        ConversionKey(Class srcClass, Class destClass, DateFormatContainer format) {
+            this.srcClass = srcClass;
+            this.destClass = destClass;
+            this.format = format;
+            this.hash = 31 * (31 * srcClass.hashCode() + destClass.hashCode()) + System.identityHashCode(format);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ConversionKey)) {
+                return false;
+            }
+            ConversionKey that = (ConversionKey)o;
+            return srcClass == that.srcClass && destClass == that.destClass && format == that.format;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Conversions between common numeric and String types which do not need the commons-beanutils number parsing and
+     * range checks. Only lossless conversions are handled here, everything else goes to the regular converters.
+     */
+    private enum DirectConverter implements Converter {
+
+        IDENTITY {
+            @Override
+            public Object convert(Class destClass, Object srcObj) {
+                return srcObj;
+            }
+        },
+        TO_STRING {
+            @Override
+            public Object convert(Class destClass, Object srcObj) {
+                return srcObj.toString();
+            }
+        },
+        TO_INTEGER {
+            @Override
+            public Object convert(Class destClass, Object srcObj) {
+                return ((Number)srcObj).intValue();
+            }
+        },
+        TO_LONG {
+            @Override
+            public Object convert(Class destClass, Object srcObj) {
+                return ((Number)srcObj).longValue();
+            }
+        },
+        TO_DOUBLE {
+            @Override
+            public Object convert(Class destClass, Object srcObj) {
+                return ((Number)srcObj).doubleValue();
+            }
+        },
+        PARSE_INTEGER {
+            @Override
+            public Object convert(Class destClass, Object srcObj) {
+                try {
+                    return Integer.valueOf(trimmed(srcObj));
+                } catch (NumberFormatException e) {
+                    throw new ConversionException(e);
+                }
+            }
+        },
+        PARSE_LONG {
+            @Override
+            public Object convert(Class destClass, Object srcObj) {
+                try {
+                    return Long.valueOf(trimmed(srcObj));
+                } catch (NumberFormatException e) {
+                    throw new ConversionException(e);
+                }
+            }
+        },
+        PARSE_DOUBLE {
+            @Override
+            public Object convert(Class destClass, Object srcObj) {
+                try {
+                    return Double.valueOf(trimmed(srcObj));
+                } catch (NumberFormatException e) {
+                    throw new ConversionException(e);
+                }
+            }
+        };
+
+        private static String trimmed(Object srcObj) {
+            String value = srcObj.toString().trim();
+            if (value.isEmpty()) {
+                throw new ConversionException("No value specified for a numeric conversion", null);
+            }
+            return value;
+        }
+
+        static Converter find(Class srcClass, Class destClass, boolean hasDateFormat) {
+            Class destType = ClassUtils.primitiveToWrapper(destClass);
+            if (srcClass == destType && (srcClass == String.class || CONVERTER_MAP.containsKey(srcClass))) {
+                return IDENTITY;
+            }
+            boolean srcNumberOrText = Number.class.isAssignableFrom(srcClass) || srcClass == Boolean.class || srcClass == Character.class;
+            if (destType == String.class) {
+                return srcNumberOrText || !hasDateFormat ? TO_STRING : null;
+            }
+            if (srcClass == String.class) {
+                if (destType == Integer.class) {
+                    return PARSE_INTEGER;
+                } else if (destType == Long.class) {
+                    return PARSE_LONG;
+                } else if (destType == Double.class) {
+                    return PARSE_DOUBLE;
+                }
+                return null;
+            }
+            boolean srcIntegral = srcClass == Integer.class || srcClass == Short.class || srcClass == Byte.class;
+            if (destType == Integer.class && srcIntegral) {
+                return TO_INTEGER;
+            } else if (destType == Long.class && (srcIntegral || srcClass == Long.class)) {
+                return TO_LONG;
+            } else if (destType == Double.class && (srcIntegral || srcClass == Long.class || srcClass == Float.class)) {
+                return TO_DOUBLE;
+            }
+            return null;
+        }
+    }
 }
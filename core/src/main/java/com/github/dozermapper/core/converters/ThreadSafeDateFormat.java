@@ -0,0 +1,158 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.converters;
+
+import java.text.DateFormat;
+import java.text.FieldPosition;
+import java.text.NumberFormat;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.TimeZone;
+import java.util.function.Consumer;
+
+/**
+ * {@link DateFormat} for a single pattern which can be shared between threads. Every thread formats and parses
+ * with its own {@link SimpleDateFormat}, cloned on first use from a prototype. Changes made through the setters
+ * replace the prototype, so every thread picks them up on its next call. Only intended for internal use.
+ */
+final class ThreadSafeDateFormat extends DateFormat {
+
+    private final String pattern;
+    private final Locale locale;
+    private volatile SimpleDateFormat prototype;
+    private final transient ThreadLocal<ThreadFormat> formats = new ThreadLocal<>();
+
+    ThreadSafeDateFormat(String pattern, Locale locale) {
+        // Fail on invalid patterns right away, like SimpleDateFormat does
+        this(pattern, locale, new SimpleDateFormat(pattern, locale));
+    }
+
+    private ThreadSafeDateFormat(String pattern, Locale locale, SimpleDateFormat prototype) {
+        this.pattern = pattern;
+        this.locale = locale;
+        this.prototype = prototype;
+        this.calendar = prototype.getCalendar();
+        this.numberFormat = prototype.getNumberFormat();
+    }
+
+    @Override
+    public StringBuffer format(Date date, StringBuffer toAppendTo, FieldPosition fieldPosition) {
+        return current().format(date, toAppendTo, fieldPosition);
+    }
+
+    @Override
+    public Date parse(String source, ParsePosition pos) {
+        return current().parse(source, pos);
+    }
+
+    @Override
+    public Calendar getCalendar() {
+        return current().getCalendar();
+    }
+
+    @Override
+    public void setCalendar(Calendar newCalendar) {
+        update(format -> format.setCalendar(newCalendar));
+    }
+
+    @Override
+    public NumberFormat getNumberFormat() {
+        return current().getNumberFormat();
+    }
+
+    @Override
+    public void setNumberFormat(NumberFormat newNumberFormat) {
+        update(format -> format.setNumberFormat(newNumberFormat));
+    }
+
+    @Override
+    public TimeZone getTimeZone() {
+        return current().getTimeZone();
+    }
+
+    @Override
+    public void setTimeZone(TimeZone zone) {
+        update(format -> format.setTimeZone(zone));
+    }
+
+    @Override
+    public boolean isLenient() {
+        return current().isLenient();
+    }
+
+    @Override
+    public void setLenient(boolean lenient) {
+        update(format -> format.setLenient(lenient));
+    }
+
+    @Override
+    public Object clone() {
+        return new ThreadSafeDateFormat(pattern, locale, (SimpleDateFormat)prototype.clone());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ThreadSafeDateFormat)) {
+            return false;
+        }
+        ThreadSafeDateFormat that = (ThreadSafeDateFormat)o;
+        return pattern.equals(that.pattern) && locale.equals(that.locale);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(pattern, locale);
+    }
+
+    private SimpleDateFormat current() {
+        SimpleDateFormat source = prototype;
+        ThreadFormat threadFormat = formats.get();
+        if (threadFormat == null || threadFormat.source != source) {
+            threadFormat = new ThreadFormat(source);
+            formats.set(threadFormat);
+        }
+        return threadFormat.format;
+    }
+
+    private synchronized void update(Consumer<SimpleDateFormat> change) {
+        SimpleDateFormat next = (SimpleDateFormat)prototype.clone();
+        change.accept(next);
+        this.calendar = next.getCalendar();
+        this.numberFormat = next.getNumberFormat();
+        this.prototype = next;
+    }
+
+    /**
+     * Format of a single thread, together with the prototype it was cloned from
+     */
+    private static final class ThreadFormat {
+
+        private final SimpleDateFormat source;
+        private final SimpleDateFormat format;
+
+        ThreadFormat(SimpleDateFormat source) {
+            this.source = source;
+            this.format = (SimpleDateFormat)source.clone();
+        }
+    }
+}
@@ -15,7 +15,12 @@
  */
 package com.github.dozermapper.core.events;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import com.github.dozermapper.core.MappingException;
 
@@ -24,7 +29,9 @@ import com.github.dozermapper.core.MappingException;
  */
 public final class DefaultEventManager implements EventManager {
 
-    private final List<? extends EventListener> eventListeners;
+    private static final EventListener[] NO_LISTENERS = new EventListener[0];
+
+    private final Map<EventTypes, EventListener[]> listenersByType = new EnumMap<>(EventTypes.class);
 
     /**
      * Event manager which simply fires to the corrasponding {@link EventListener}
@@ -32,7 +39,37 @@ public final class DefaultEventManager implements EventManager {
      * @param eventListeners event listeners to callback to
      */
     public DefaultEventManager(List<? extends EventListener> eventListeners) {
-        this.eventListeners = eventListeners;
+        this(eventListeners, Collections.emptyMap());
+    }
+
+    /**
+     * Event manager which fires to the corrasponding {@link EventListener}, but only for the event types
+     * it subscribed to. Events of types without any subscribed listener are not created by the mapper at all.
+     *
+     * @param eventListeners event listeners to callback to
+     * @param subscriptions  event types by listener, listeners without an entry are subscribed to all event types
+     */
+    public DefaultEventManager(List<? extends EventListener> eventListeners, Map<EventListener, Set<EventTypes>> subscriptions) {
+        for (EventTypes eventType : EventTypes.values()) {
+            List<EventListener> subscribed = new ArrayList<>();
+            if (eventListeners != null) {
+                for (EventListener listener : eventListeners) {
+                    Set<EventTypes> eventTypes = subscriptions.get(listener);
+                    if (eventTypes == null || eventTypes.contains(eventType)) {
+                        subscribed.add(listener);
+                    }
+                }
+            }
+            listenersByType.put(eventType, subscribed.toArray(NO_LISTENERS));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isSubscribed(EventTypes eventType) {
+        return listenersByType.get(eventType).length > 0;
     }
 
     /**
@@ -40,24 +77,27 @@ public final class DefaultEventManager implements EventManager {
      */
     @Override
     public void on(Event event) {
-        if (eventListeners != null) {
-            for (EventListener listener : eventListeners) {
-                switch (event.getType()) {
-                    case MAPPING_STARTED:
-                        listener.onMappingStarted(event);
-                        break;
-                    case MAPPING_PRE_WRITING_DEST_VALUE:
-                        listener.onPreWritingDestinationValue(event);
-                        break;
-                    case MAPPING_POST_WRITING_DEST_VALUE:
-                        listener.onPostWritingDestinationValue(event);
-                        break;
-                    case MAPPING_FINISHED:
-                        listener.onMappingFinished(event);
-                        break;
-                    default:
-                        throw new MappingException("Unsupported event type: " + event.getType());
-                }
+        EventListener[] listeners = listenersByType.get(event.getType());
+        if (listeners == null) {
+            throw new MappingException("Unsupported event type: " + event.getType());
+        }
+
+        for (EventListener listener : listeners) {
+            switch (event.getType()) {
+                case MAPPING_STARTED:
+                    listener.onMappingStarted(event);
+                    break;
+                case MAPPING_PRE_WRITING_DEST_VALUE:
+                    listener.onPreWritingDestinationValue(event);
+                    break;
+                case MAPPING_POST_WRITING_DEST_VALUE:
+                    listener.onPostWritingDestinationValue(event);
+                    break;
+                case MAPPING_FINISHED:
+                    listener.onMappingFinished(event);
+                    break;
+                default:
+                    throw new MappingException("Unsupported event type: " + event.getType());
             }
         }
     }
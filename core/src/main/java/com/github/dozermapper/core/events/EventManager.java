@@ -27,4 +27,15 @@ public interface EventManager {
      * @param event event details
      */
     void on(Event event);
+
+    /**
+     * Whether any listener is interested in events of the given type. The {@link com.github.dozermapper.core.Mapper}
+     * only creates and triggers events of types which are subscribed.
+     *
+     * @param eventType event type
+     * @return true if events of this type have to be triggered
+     */
+    default boolean isSubscribed(EventTypes eventType) {
+        return true;
+    }
 }
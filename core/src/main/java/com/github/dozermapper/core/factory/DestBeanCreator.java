@@ -70,6 +70,31 @@ public final class DestBeanCreator {
         return result;
     }
 
+    /**
+     * Finds the strategy {@link #create(BeanCreationDirective)} would use for the directive, so that it can be reused
+     * for directives which only differ in the source object.
+     *
+     * @param directive creation directive
+     * @return first applicable strategy or null if there is none
+     */
+    public BeanCreationStrategy findStrategy(BeanCreationDirective directive) {
+        BeanCreationStrategy strategy = findStrategy(directive, pluggedStrategies);
+        if (strategy == null) {
+            strategy = findStrategy(directive, Arrays.asList(availableStrategies));
+        }
+
+        return strategy;
+    }
+
+    private BeanCreationStrategy findStrategy(BeanCreationDirective directive, List<BeanCreationStrategy> strategies) {
+        for (BeanCreationStrategy strategy : new CopyOnWriteArrayList<>(strategies)) {
+            if (strategy.isApplicable(directive)) {
+                return strategy;
+            }
+        }
+        return null;
+    }
+
     private Object applyStrategies(BeanCreationDirective directive, List<BeanCreationStrategy> strategies) {
         // TODO create method lookup by annotation/convention
         // TODO Cache ConstructionStrategy (reuse caching infrastructure)
@@ -19,6 +19,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 import com.github.dozermapper.core.BeanBuilder;
+import com.github.dozermapper.core.CustomConverter;
 import com.github.dozermapper.core.MappingException;
 import com.github.dozermapper.core.builder.BuilderUtil;
 import com.github.dozermapper.core.classmap.ClassMap;
@@ -67,9 +68,16 @@ public abstract class FieldMap implements Cloneable {
     private RelationshipType relationshipType;
     private boolean removeOrphans;
 
+    // resolved on first use, so mapping a field does not load the converter class or look up its id again
+    private volatile Class<?> customConverterClass;
+    private volatile CustomConverter boundCustomConverter;
+
     private final ConcurrentMap<Class<?>, DozerPropertyDescriptor> srcPropertyDescriptorMap = new ConcurrentHashMap<>(); // For Caching Purposes
     private final ConcurrentMap<Class<?>, DozerPropertyDescriptor> destPropertyDescriptorMap = new ConcurrentHashMap<>();
 
+    // copies of this field map with the generic element type of the destination collection as hint, per runtime dest class
+    private ConcurrentMap<Class<?>, FieldMap> genericTypeFieldMaps = new ConcurrentHashMap<>();
+
     public FieldMap(ClassMap classMap, BeanContainer beanContainer, DestBeanCreator destBeanCreator, PropertyDescriptorFactory propertyDescriptorFactory) {
         this.classMap = classMap;
         this.beanContainer = beanContainer;
@@ -148,6 +156,34 @@ public abstract class FieldMap implements Cloneable {
         return propertyDescriptor.genericType();
     }
 
+    /**
+     * Gets the field map to map a collection with. If there is no destination hint, this is a copy of this field map
+     * which has the generic element type of the destination collection as hint. The copy is created once per runtime
+     * destination class.
+     *
+     * @param runtimeDestClass type
+     * @return this field map, or a copy with the generic element type as destination hint
+     */
+    public FieldMap getGenericTypeFieldMap(Class<?> runtimeDestClass) {
+        if (destHintContainer != null) {
+            return this;
+        }
+        return genericTypeFieldMaps.computeIfAbsent(runtimeDestClass, this::createGenericTypeFieldMap);
+    }
+
+    private FieldMap createGenericTypeFieldMap(Class<?> runtimeDestClass) {
+        Class<?> genericType = getGenericType(runtimeDestClass);
+        if (genericType == null) {
+            return this;
+        }
+        HintContainer genericTypeHintContainer = new HintContainer(beanContainer);
+        genericTypeHintContainer.setHintName(genericType.getName());
+        genericTypeHintContainer.getHints(); // load the hint before the copy is shared between threads
+        FieldMap result = (FieldMap)clone();
+        result.setDestHintContainer(genericTypeHintContainer);
+        return result;
+    }
+
     public Object getDestValue(Object runtimeDestObj) {
         return getDestPropertyDescriptor(BuilderUtil.unwrapDestClassFromBuilder(runtimeDestObj)).getPropertyValue(runtimeDestObj);
     }
@@ -311,6 +347,8 @@ public abstract class FieldMap implements Cloneable {
         } catch (CloneNotSupportedException e) {
             MappingUtils.throwMappingException(e);
         }
+        // the copies depend on the hints and fields of this field map, which may be changed on the clone
+        ((FieldMap)result).genericTypeFieldMaps = new ConcurrentHashMap<>();
         return result;
     }
 
@@ -363,6 +401,41 @@ public abstract class FieldMap implements Cloneable {
 
     public void setCustomConverter(String customConverter) {
         this.customConverter = customConverter;
+        this.customConverterClass = null;
+        this.boundCustomConverter = null;
+    }
+
+    /**
+     * Returns the class of the field level custom converter, which is loaded once
+     *
+     * @return converter class, or null if no converter class is configured
+     */
+    public Class<?> getCustomConverterClass() {
+        Class<?> result = customConverterClass;
+        if (result == null && !MappingUtils.isBlankOrNull(customConverter)) {
+            result = MappingUtils.loadClass(customConverter, beanContainer);
+            customConverterClass = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the converter instance used for every mapping of this field, see {@link #bindCustomConverter(CustomConverter)}
+     *
+     * @return bound converter, or null if none was bound yet
+     */
+    public CustomConverter getBoundCustomConverter() {
+        return boundCustomConverter;
+    }
+
+    /**
+     * Binds the converter instance resolved for the custom converter id or class of this field, so it does not have to be
+     * resolved again. Must only be called with instances which are shared between conversions.
+     *
+     * @param converter converter instance
+     */
+    public void bindCustomConverter(CustomConverter converter) {
+        this.boundCustomConverter = converter;
     }
 
     public RelationshipType getRelationshipType() {
@@ -382,7 +455,7 @@ public abstract class FieldMap implements Cloneable {
         }
     }
 
-    protected DozerPropertyDescriptor getSrcPropertyDescriptor(Class<?> runtimeSrcClass) {
+    public DozerPropertyDescriptor getSrcPropertyDescriptor(Class<?> runtimeSrcClass) {
         DozerPropertyDescriptor result = this.srcPropertyDescriptorMap.get(runtimeSrcClass);
         if (result == null) {
             String srcFieldMapGetMethod = getSrcFieldMapGetMethod();
@@ -401,7 +474,7 @@ public abstract class FieldMap implements Cloneable {
         return result;
     }
 
-    protected DozerPropertyDescriptor getDestPropertyDescriptor(Class<?> runtimeDestClass) {
+    public DozerPropertyDescriptor getDestPropertyDescriptor(Class<?> runtimeDestClass) {
         if (BeanBuilder.class.isAssignableFrom(runtimeDestClass)) {
             MappingUtils.throwMappingException("getDestPropertyDescriptor received builder instead of concrete class - "
                                                + "it's a bug, please post stack trace at https://github.com/DozerMapper/dozer or directly to dmitry@spikhalskiy.com ");
@@ -455,6 +528,7 @@ public abstract class FieldMap implements Cloneable {
 
     public void setCustomConverterId(String customConverterId) {
         this.customConverterId = customConverterId;
+        this.boundCustomConverter = null;
     }
 
     public boolean isRemoveOrphans() {
@@ -0,0 +1,422 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.flow;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.dozermapper.core.Mapper;
+import com.github.dozermapper.core.util.MappingUtils;
+
+/**
+ * {@link Flow.Processor} which maps every element published by its upstream to a new instance of the destination class.
+ * <p>
+ * Demand of the subscriber is passed on to the upstream one to one, so the processor never holds more elements than
+ * the subscriber requested. Received elements are mapped in batches with {@link Mapper#mapAll(Iterable, Class, String)}.
+ * A batch is mapped once it is full, once every requested element has been received, once the upstream terminated, or
+ * once the flush delay passed since a partial batch was held back, so a slow upstream does not hold elements back until
+ * more of them arrive. A batch size of 1 or a flush delay of 0 maps and delivers every element as soon as it is received.
+ * <p>
+ * Mapping and the signals to the subscriber run on the given executor, or on the thread which signalled the processor
+ * if there is none. Without an executor, a partial batch flushed after the flush delay is mapped on a thread of the
+ * common {@link java.util.concurrent.ForkJoinPool}. Elements which are mapped to null are dropped and replaced by
+ * requesting another element. A mapping failure cancels the upstream and is passed on to the subscriber. Only a single
+ * subscriber is supported.
+ *
+ * @param <S> type of the source elements
+ * @param <D> type of the mapped elements
+ */
+public class MappingFlowProcessor<S, D> implements Flow.Processor<S, D> {
+
+    /**
+     * Batch size used if none is given
+     */
+    public static final int DEFAULT_BATCH_SIZE = 32;
+
+    /**
+     * Flush delay in milliseconds used if none is given
+     */
+    public static final long DEFAULT_FLUSH_DELAY_MILLIS = 10;
+
+    private static final Flow.Subscription CANCELLED_SUBSCRIPTION = new Flow.Subscription() {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    };
+
+    private final Mapper mapper;
+    private final Class<D> destinationClass;
+    private final String mapId;
+    private final int batchSize;
+    private final long flushDelayMillis;
+    private final Executor executor;
+
+    private final Object upstreamLock = new Object();
+    private Flow.Subscription upstream;
+    private long pendingUpstreamRequests;
+    private boolean upstreamCancelled;
+
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    private volatile Flow.Subscriber<? super D> downstream;
+
+    private final Queue<S> received = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger receivedCount = new AtomicInteger();
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicInteger pendingDrains = new AtomicInteger();
+
+    private volatile boolean done;
+    private volatile Throwable error;
+    private volatile Throwable failure;
+    private volatile boolean cancelled;
+    private volatile boolean flushDue;
+
+    // only accessed by the drain loop
+    private final Queue<D> mapped = new ArrayDeque<>();
+    private boolean terminated;
+    private boolean flushScheduled;
+
+    /**
+     * Creates a processor which maps on the signalling thread in batches of {@link #DEFAULT_BATCH_SIZE}
+     *
+     * @param mapper           mapper used for the elements
+     * @param destinationClass type to convert to
+     */
+    public MappingFlowProcessor(Mapper mapper, Class<D> destinationClass) {
+        this(mapper, destinationClass, null, DEFAULT_BATCH_SIZE, null);
+    }
+
+    /**
+     * Creates a processor which flushes partial batches after {@link #DEFAULT_FLUSH_DELAY_MILLIS}
+     *
+     * @param mapper           mapper used for the elements
+     * @param destinationClass type to convert to
+     * @param mapId            id in configuration for mapping, may be null
+     * @param batchSize        maximum number of elements mapped at once
+     * @param executor         executor running the mapping and the signals to the subscriber, may be null
+     */
+    public MappingFlowProcessor(Mapper mapper, Class<D> destinationClass, String mapId, int batchSize, Executor executor) {
+        this(mapper, destinationClass, mapId, batchSize, DEFAULT_FLUSH_DELAY_MILLIS, executor);
+    }
+
+    /**
+     * Creates a processor
+     *
+     * @param mapper           mapper used for the elements
+     * @param destinationClass type to convert to
+     * @param mapId            id in configuration for mapping, may be null
+     * @param batchSize        maximum number of elements mapped at once
+     * @param flushDelayMillis time a partial batch is held back at most while waiting for more elements
+     * @param executor         executor running the mapping and the signals to the subscriber, may be null
+     */
+    public MappingFlowProcessor(Mapper mapper, Class<D> destinationClass, String mapId, int batchSize, long flushDelayMillis, Executor executor) {
+        if (mapper == null) {
+            MappingUtils.throwMappingException("Mapper must not be null");
+        }
+        if (destinationClass == null) {
+            MappingUtils.throwMappingException("Destination class must not be null");
+        }
+        if (batchSize < 1) {
+            MappingUtils.throwMappingException("Batch size must be positive, but was " + batchSize);
+        }
+        if (flushDelayMillis < 0) {
+            MappingUtils.throwMappingException("Flush delay must not be negative, but was " + flushDelayMillis);
+        }
+
+        this.mapper = mapper;
+        this.destinationClass = destinationClass;
+        this.mapId = mapId;
+        this.batchSize = batchSize;
+        this.flushDelayMillis = flushDelayMillis;
+        this.executor = executor != null ? executor : Runnable::run;
+    }
+
+    /* Subscriber Implementation */
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription);
+
+        long requests;
+        synchronized (upstreamLock) {
+            if (upstream != null || upstreamCancelled) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+            requests = pendingUpstreamRequests;
+            pendingUpstreamRequests = 0;
+        }
+        if (requests > 0) {
+            subscription.request(requests);
+        }
+    }
+
+    @Override
+    public void onNext(S item) {
+        Objects.requireNonNull(item);
+        if (done || cancelled) {
+            return;
+        }
+
+        received.offer(item);
+        receivedCount.incrementAndGet();
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable);
+        if (done) {
+            return;
+        }
+
+        error = throwable;
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        done = true;
+        drain();
+    }
+
+    /* Publisher Implementation */
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super D> subscriber) {
+        Objects.requireNonNull(subscriber);
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(CANCELLED_SUBSCRIPTION);
+            subscriber.onError(new IllegalStateException("Only a single subscriber is supported"));
+            return;
+        }
+
+        subscriber.onSubscribe(new DownstreamSubscription());
+        downstream = subscriber;
+        drain();
+    }
+
+    private void requestUpstream(long n) {
+        Flow.Subscription subscription;
+        synchronized (upstreamLock) {
+            subscription = upstream;
+            if (subscription == null) {
+                pendingUpstreamRequests = addCapped(pendingUpstreamRequests, n);
+                return;
+            }
+        }
+        subscription.request(n);
+    }
+
+    private void cancelUpstream() {
+        Flow.Subscription subscription;
+        synchronized (upstreamLock) {
+            subscription = upstream;
+            upstreamCancelled = true;
+        }
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    private void fail(Throwable throwable) {
+        failure = throwable;
+        cancelUpstream();
+        drain();
+    }
+
+    private void drain() {
+        if (pendingDrains.getAndIncrement() != 0) {
+            // the running drain loop picks the change up
+            return;
+        }
+
+        try {
+            executor.execute(this::drainLoop);
+        } catch (RejectedExecutionException e) {
+            failure = e;
+            cancelUpstream();
+            drainLoop();
+        }
+    }
+
+    private void drainLoop() {
+        int missed = 1;
+        while (true) {
+            Flow.Subscriber<? super D> subscriber = downstream;
+            if (cancelled || terminated) {
+                discard();
+            } else if (subscriber != null) {
+                if (failure != null) {
+                    discard();
+                    terminate(subscriber, failure);
+                } else {
+                    drainTo(subscriber);
+                }
+            }
+
+            missed = pendingDrains.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    private void drainTo(Flow.Subscriber<? super D> subscriber) {
+        while (true) {
+            emit(subscriber);
+            if (!mapped.isEmpty() || cancelled) {
+                // waiting for demand
+                return;
+            }
+
+            boolean upstreamDone = done;
+            int available = receivedCount.get();
+            if (available == 0) {
+                if (upstreamDone) {
+                    terminate(subscriber, error);
+                }
+                // a flush which fires after its batch was mapped must not flush the next one early
+                flushDue = false;
+                return;
+            }
+            if (available < batchSize && available < demand.get() && !upstreamDone && !flushDue) {
+                // more requested elements are still on their way
+                if (flushDelayMillis > 0) {
+                    scheduleFlush();
+                    return;
+                }
+            }
+
+            try {
+                flushDue = false;
+                flushScheduled = false;
+                mapBatch(Math.min(available, batchSize));
+            } catch (RuntimeException e) {
+                cancelUpstream();
+                discard();
+                terminate(subscriber, e);
+                return;
+            }
+        }
+    }
+
+    private void scheduleFlush() {
+        if (!flushScheduled) {
+            flushScheduled = true;
+            Executor delayed = CompletableFuture.delayedExecutor(flushDelayMillis, TimeUnit.MILLISECONDS);
+            delayed.execute(() -> {
+                flushDue = true;
+                drain();
+            });
+        }
+    }
+
+    private void mapBatch(int count) {
+        List<S> batch = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            batch.add(received.poll());
+        }
+        receivedCount.addAndGet(-count);
+
+        int dropped = 0;
+        for (D value : mapper.mapAll(batch, destinationClass, mapId)) {
+            if (value != null) {
+                mapped.add(value);
+            } else {
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            requestUpstream(dropped);
+        }
+    }
+
+    private void emit(Flow.Subscriber<? super D> subscriber) {
+        while (!mapped.isEmpty() && demand.get() > 0 && !cancelled) {
+            if (demand.get() != Long.MAX_VALUE) {
+                demand.decrementAndGet();
+            }
+            subscriber.onNext(mapped.poll());
+        }
+    }
+
+    private void discard() {
+        mapped.clear();
+        receivedCount.addAndGet(-dropReceived());
+    }
+
+    private int dropReceived() {
+        int count = 0;
+        while (received.poll() != null) {
+            count++;
+        }
+        return count;
+    }
+
+    private void terminate(Flow.Subscriber<? super D> subscriber, Throwable throwable) {
+        terminated = true;
+        if (throwable != null) {
+            subscriber.onError(throwable);
+        } else {
+            subscriber.onComplete();
+        }
+    }
+
+    private static long addCapped(long current, long n) {
+        long sum = current + n;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    private final class DownstreamSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                fail(new IllegalArgumentException("Requested number of elements must be positive, but was " + n));
+                return;
+            }
+
+            demand.getAndUpdate(current -> addCapped(current, n));
+            requestUpstream(n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            cancelUpstream();
+            drain();
+        }
+    }
+}
@@ -149,6 +149,11 @@ public class DozerBuilder {
             return this;
         }
 
+        public MappingBuilder treeMode(boolean value) {
+            classMap.setTreeMode(value);
+            return this;
+        }
+
         public MappingBuilder mapId(String id) {
             classMap.setMapId(id);
             return this;
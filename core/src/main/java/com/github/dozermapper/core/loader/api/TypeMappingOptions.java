@@ -108,6 +108,18 @@ public final class TypeMappingOptions {
         };
     }
 
+    public static TypeMappingOption treeMode() {
+        return treeMode(true);
+    }
+
+    public static TypeMappingOption treeMode(final boolean value) {
+        return new TypeMappingOption() {
+            public void apply(DozerBuilder.MappingBuilder fieldMappingBuilder) {
+                fieldMappingBuilder.treeMode(value);
+            }
+        };
+    }
+
     public static TypeMappingOption oneWay() {
         return new TypeMappingOption() {
             public void apply(DozerBuilder.MappingBuilder fieldMappingBuilder) {
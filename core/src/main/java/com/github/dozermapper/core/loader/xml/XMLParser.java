@@ -49,6 +49,7 @@ public class XMLParser implements MappingsSource<Document> {
     private static final String WILDCARD = "wildcard";
     private static final String WILDCARD_CASE_INSENSITIVE = "wildcard-case-insensitive";
     private static final String TRIM_STRINGS = "trim-strings";
+    private static final String TREE_MODE = "tree-mode";
     private static final String BEAN_FACTORY = "bean-factory";
     private static final String DATE_FORMAT = "date-format";
     private static final String RELATIONSHIP_TYPE = "relationship-type";
@@ -181,6 +182,9 @@ public class XMLParser implements MappingsSource<Document> {
         if (StringUtils.isNotEmpty(getAttribute(ele, STOP_ON_ERRORS_ATTRIBUTE))) {
             definitionBuilder.stopOnErrors(Boolean.valueOf(getAttribute(ele, STOP_ON_ERRORS_ATTRIBUTE)));
         }
+        if (StringUtils.isNotEmpty(getAttribute(ele, TREE_MODE))) {
+            definitionBuilder.treeMode(BooleanUtils.toBoolean(getAttribute(ele, TREE_MODE)));
+        }
         if (StringUtils.isNotEmpty(getAttribute(ele, MAPID_ATTRIBUTE))) {
             definitionBuilder.mapId(getAttribute(ele, MAPID_ATTRIBUTE));
         }
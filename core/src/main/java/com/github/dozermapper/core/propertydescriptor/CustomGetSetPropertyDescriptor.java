@@ -58,7 +58,7 @@ public class CustomGetSetPropertyDescriptor extends JavaBeanPropertyDescriptor {
     }
 
     @Override
-    protected Method getReadMethod() throws NoSuchMethodException {
+    public Method getReadMethod() throws NoSuchMethodException {
         if (readMethod == null || readMethod.get() == null) {
             if (customGetMethod != null) {
                 Method method = ReflectionUtils.findAMethod(clazz, customGetMethod, beanContainer);
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.propertydescriptor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+import com.github.dozermapper.core.MappingException;
+import com.github.dozermapper.core.util.MethodHandleUtils;
+
+import org.apache.commons.lang3.ClassUtils;
+
+/**
+ * Internal class that binds reading and writing a field to {@link MethodHandle}s once. Whenever a handle could not be
+ * created, or the bean or value is not of the expected type, {@link Field#get(Object)} and {@link Field#set(Object, Object)}
+ * are used, so failures are reported the same way as before. Only intended for internal use.
+ */
+final class FieldAccessor {
+
+    private final Field field;
+    private final Class<?> declaringClass;
+    private final Class<?> valueType;
+    private final boolean primitive;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    FieldAccessor(Field field) {
+        this.field = field;
+        this.declaringClass = field.getDeclaringClass();
+        this.valueType = ClassUtils.primitiveToWrapper(field.getType());
+        this.primitive = field.getType().isPrimitive();
+        this.getter = bind(field, true);
+        this.setter = bind(field, false);
+    }
+
+    Object get(Object bean) throws IllegalAccessException {
+        if (getter == null || !declaringClass.isInstance(bean)) {
+            return field.get(bean);
+        }
+
+        try {
+            return (Object)getter.invokeExact(bean);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new MappingException(e);
+        }
+    }
+
+    void set(Object bean, Object value) throws IllegalAccessException {
+        if (setter == null || !declaringClass.isInstance(bean) || (value == null ? primitive : !valueType.isInstance(value))) {
+            field.set(bean, value);
+            return;
+        }
+
+        try {
+            setter.invokeExact(bean, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new MappingException(e);
+        }
+    }
+
+    private static MethodHandle bind(Field field, boolean read) {
+        try {
+            if (read) {
+                return MethodHandleUtils.unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class));
+            }
+            return MethodHandleUtils.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, Object.class));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // final fields, for example, can only be written reflectively
+            return null;
+        }
+    }
+}
@@ -93,6 +93,7 @@ public class FieldPropertyDescriptor extends AbstractPropertyDescriptor implemen
     static class ChainedPropertyDescriptor implements DozerPropertyDescriptor {
 
         private Field field;
+        private FieldAccessor accessor;
         private boolean indexed;
         private int index;
 
@@ -100,6 +101,7 @@ public class FieldPropertyDescriptor extends AbstractPropertyDescriptor implemen
             this.indexed = indexed;
             this.index = index;
             field = ReflectionUtils.getFieldFromBean(clazz, fieldName);
+            accessor = new FieldAccessor(field);
         }
 
         public Class<?> getPropertyType() {
@@ -109,7 +111,7 @@ public class FieldPropertyDescriptor extends AbstractPropertyDescriptor implemen
         public Object getPropertyValue(Object bean) {
             Object result = null;
             try {
-                result = field.get(bean);
+                result = accessor.get(bean);
             } catch (IllegalArgumentException e) {
                 MappingUtils.throwMappingException(e);
             } catch (IllegalAccessException e) {
@@ -134,11 +136,11 @@ public class FieldPropertyDescriptor extends AbstractPropertyDescriptor implemen
 
             try {
                 if (indexed) {
-                    Object existingValue = field.get(bean);
+                    Object existingValue = accessor.get(bean);
                     Object collection = MappingUtils.prepareIndexedCollection(getPropertyType(), existingValue, value, index);
-                    field.set(bean, collection);
+                    accessor.set(bean, collection);
                 } else {
-                    field.set(bean, value);
+                    accessor.set(bean, value);
                 }
             } catch (IllegalAccessException e) {
                 MappingUtils.throwMappingException(e);
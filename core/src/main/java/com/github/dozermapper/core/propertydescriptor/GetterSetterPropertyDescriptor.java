@@ -19,6 +19,8 @@ import java.beans.PropertyDescriptor;
 import java.lang.reflect.Array;
 import java.lang.reflect.Method;
 import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.github.dozermapper.core.MappingException;
 import com.github.dozermapper.core.config.BeanContainer;
@@ -45,6 +47,11 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
     private final Logger log = LoggerFactory.getLogger(GetterSetterPropertyDescriptor.class);
 
     private Class<?> propertyType;
+    private MethodAccessor readAccessor;
+    private MethodAccessor writeAccessor;
+    // Deep field hierarchies by runtime class, replaced when the deep index hints change
+    private volatile DeepHierarchies readHierarchies;
+    private volatile DeepHierarchies writeHierarchies;
     protected final BeanContainer beanContainer;
     protected final DestBeanCreator destBeanCreator;
 
@@ -120,7 +127,7 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
         // follow deep field hierarchy. If any values are null along the way, then return null
         Object parentObj = srcObj;
         Object hierarchyValue = parentObj;
-        DeepHierarchyElement[] hierarchy = getDeepFieldHierarchy(srcObj, srcDeepIndexHintContainer);
+        DeepHierarchyElement[] hierarchy = getReadHierarchy(srcObj.getClass(), srcDeepIndexHintContainer);
         int size = hierarchy.length;
         for (int i = 0; i < size; i++) {
             DeepHierarchyElement hierarchyElement = hierarchy[i];
@@ -148,7 +155,7 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
 
     protected void writeDeepDestinationValue(Object destObj, Object destFieldValue, FieldMap fieldMap) {
         // follow deep field hierarchy. If any values are null along the way, then create a new instance
-        DeepHierarchyElement[] hierarchy = getDeepFieldHierarchy(destObj, fieldMap.getDestDeepIndexHintContainer());
+        DeepHierarchyElement[] hierarchy = getWriteHierarchy(destObj.getClass(), fieldMap.getDestDeepIndexHintContainer());
         // first, iteratate through hierarchy and instantiate any objects that are null
         Object parentObj = destObj;
         int hierarchyLength = hierarchy.length - 1;
@@ -276,7 +283,7 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
     protected Object invokeReadMethod(Object target) {
         Object result = null;
         try {
-            result = ReflectionUtils.invoke(getReadMethod(), target, null);
+            result = getReadAccessor().invoke(target);
         } catch (NoSuchMethodException e) {
             MappingUtils.throwMappingException(e);
         }
@@ -285,14 +292,47 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
 
     protected void invokeWriteMethod(Object target, Object value) {
         try {
-            ReflectionUtils.invoke(getWriteMethod(), target, new Object[] {value});
+            getWriteAccessor().invoke(target, value);
         } catch (NoSuchMethodException e) {
             MappingUtils.throwMappingException(e);
         }
     }
 
-    private DeepHierarchyElement[] getDeepFieldHierarchy(Object obj, HintContainer deepIndexHintContainer) {
-        return ReflectionUtils.getDeepFieldHierarchy(obj.getClass(), fieldName, deepIndexHintContainer);
+    private MethodAccessor getReadAccessor() throws NoSuchMethodException {
+        // bound once, the accessor also keeps the method from being cleared out of the java.beans caches
+        MethodAccessor accessor = readAccessor;
+        if (accessor == null) {
+            accessor = MethodAccessor.forReadMethod(getReadMethod());
+            readAccessor = accessor;
+        }
+        return accessor;
+    }
+
+    private MethodAccessor getWriteAccessor() throws NoSuchMethodException {
+        MethodAccessor accessor = writeAccessor;
+        if (accessor == null) {
+            accessor = MethodAccessor.forWriteMethod(getWriteMethod());
+            writeAccessor = accessor;
+        }
+        return accessor;
+    }
+
+    private DeepHierarchyElement[] getReadHierarchy(Class<?> type, HintContainer deepIndexHintContainer) {
+        DeepHierarchies hierarchies = readHierarchies;
+        if (hierarchies == null || hierarchies.hints != deepIndexHintContainer) {
+            hierarchies = new DeepHierarchies(fieldName, deepIndexHintContainer);
+            readHierarchies = hierarchies;
+        }
+        return hierarchies.get(type);
+    }
+
+    private DeepHierarchyElement[] getWriteHierarchy(Class<?> type, HintContainer deepIndexHintContainer) {
+        DeepHierarchies hierarchies = writeHierarchies;
+        if (hierarchies == null || hierarchies.hints != deepIndexHintContainer) {
+            hierarchies = new DeepHierarchies(fieldName, deepIndexHintContainer);
+            writeHierarchies = hierarchies;
+        }
+        return hierarchies.get(type);
     }
 
     private void writeIndexedValue(Object destObj, Object destFieldValue) {
@@ -369,4 +409,26 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
         return genericType;
     }
 
+    /**
+     * Deep field hierarchies of a field resolved with one deep index hint container, by runtime class.
+     */
+    private static final class DeepHierarchies {
+
+        private final String fieldName;
+        private final HintContainer hints;
+        private final ConcurrentMap<Class<?>, DeepHierarchyElement[]> byType = new ConcurrentHashMap<>(4);
+
+        DeepHierarchies(String fieldName, HintContainer hints) {
+            this.fieldName = fieldName;
+            this.hints = hints;
+        }
+
+        DeepHierarchyElement[] get(Class<?> type) {
+            DeepHierarchyElement[] elements = byType.get(type);
+            if (elements == null) {
+                elements = byType.computeIfAbsent(type, key -> ReflectionUtils.getDeepFieldHierarchy(key, fieldName, hints));
+            }
+            return elements;
+        }
+    }
 }
@@ -59,7 +59,7 @@ public class JavaBeanPropertyDescriptor extends GetterSetterPropertyDescriptor {
     }
 
     @Override
-    protected Method getReadMethod() throws NoSuchMethodException {
+    public Method getReadMethod() throws NoSuchMethodException {
         Method result = getPropertyDescriptor(srcDeepIndexHintContainer).getReadMethod();
         if (result == null) {
             result = retryMissingMethod(false);
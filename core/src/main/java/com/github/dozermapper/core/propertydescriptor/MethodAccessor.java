@@ -0,0 +1,159 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.propertydescriptor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import com.github.dozermapper.core.MappingException;
+import com.github.dozermapper.core.util.MethodHandleUtils;
+import com.github.dozermapper.core.util.ReflectionUtils;
+
+import org.apache.commons.lang3.ClassUtils;
+
+/**
+ * Internal class that binds a getter or a single argument setter once, so it can be invoked without going through
+ * {@link Method#invoke(Object, Object...)} on every call. Public methods of visible classes are bound with
+ * {@link java.lang.invoke.LambdaMetafactory}, any other method with a {@link MethodHandle}.
+ * <p>
+ * Failures are reported exactly like {@link ReflectionUtils#invoke(Method, Object, Object[])} does: exceptions thrown
+ * by the method are wrapped in a {@link MappingException} caused by an {@link InvocationTargetException}, and calls
+ * with an argument of the wrong type are left to reflection to report. Only intended for internal use.
+ */
+final class MethodAccessor {
+
+    private final Method method;
+    private final Class<?> declaringClass;
+    private final Class<?> parameterType;
+    private final boolean primitiveParameter;
+    private final Function<Object, Object> getter;
+    private final BiConsumer<Object, Object> setter;
+    private final MethodHandle handle;
+
+    private MethodAccessor(Method method, Function<Object, Object> getter, BiConsumer<Object, Object> setter, MethodHandle handle) {
+        this.method = method;
+        this.declaringClass = method.getDeclaringClass();
+        this.getter = getter;
+        this.setter = setter;
+        this.handle = handle;
+        if (method.getParameterTypes().length == 1) {
+            Class<?> type = method.getParameterTypes()[0];
+            this.parameterType = ClassUtils.primitiveToWrapper(type);
+            this.primitiveParameter = type.isPrimitive();
+        } else {
+            this.parameterType = null;
+            this.primitiveParameter = false;
+        }
+    }
+
+    /**
+     * Binds a method without parameters, such as a getter
+     *
+     * @param readMethod method to bind
+     * @return accessor
+     */
+    static MethodAccessor forReadMethod(Method readMethod) {
+        try {
+            if (MethodHandleUtils.isLambdaBindable(readMethod)) {
+                Function<Object, Object> getter = MethodHandleUtils.bindLambda(
+                        Function.class, "apply", MethodType.methodType(Object.class, Object.class),
+                        MethodType.methodType(ClassUtils.primitiveToWrapper(readMethod.getReturnType()), readMethod.getDeclaringClass()),
+                        readMethod);
+                return new MethodAccessor(readMethod, getter, null, null);
+            }
+
+            MethodHandle handle = MethodHandleUtils.unreflect(readMethod).asType(MethodType.methodType(Object.class, Object.class));
+            return new MethodAccessor(readMethod, null, null, handle);
+        } catch (Throwable e) {
+            // keep using reflection
+            return new MethodAccessor(readMethod, null, null, null);
+        }
+    }
+
+    /**
+     * Binds a method with a single parameter, such as a setter
+     *
+     * @param writeMethod method to bind
+     * @return accessor
+     */
+    static MethodAccessor forWriteMethod(Method writeMethod) {
+        try {
+            if (MethodHandleUtils.isLambdaBindable(writeMethod)) {
+                BiConsumer<Object, Object> setter = MethodHandleUtils.bindLambda(
+                        BiConsumer.class, "accept", MethodType.methodType(void.class, Object.class, Object.class),
+                        MethodType.methodType(void.class, writeMethod.getDeclaringClass(), ClassUtils.primitiveToWrapper(writeMethod.getParameterTypes()[0])),
+                        writeMethod);
+                return new MethodAccessor(writeMethod, null, setter, null);
+            }
+
+            MethodHandle handle = MethodHandleUtils.unreflect(writeMethod).asType(MethodType.methodType(void.class, Object.class, Object.class));
+            return new MethodAccessor(writeMethod, null, null, handle);
+        } catch (Throwable e) {
+            // keep using reflection
+            return new MethodAccessor(writeMethod, null, null, null);
+        }
+    }
+
+    Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Invokes the bound read method
+     *
+     * @param target object to invoke the method on
+     * @return result of the method
+     */
+    Object invoke(Object target) {
+        if ((getter == null && handle == null) || !declaringClass.isInstance(target)) {
+            return ReflectionUtils.invoke(method, target, null);
+        }
+
+        try {
+            return getter != null ? getter.apply(target) : (Object)handle.invokeExact(target);
+        } catch (Throwable e) {
+            throw new MappingException(new InvocationTargetException(e));
+        }
+    }
+
+    /**
+     * Invokes the bound write method
+     *
+     * @param target object to invoke the method on
+     * @param value  argument of the method
+     */
+    void invoke(Object target, Object value) {
+        if ((setter == null && handle == null) || !declaringClass.isInstance(target)
+            || (value == null ? primitiveParameter : !parameterType.isInstance(value))) {
+            ReflectionUtils.invoke(method, target, new Object[] {value});
+            return;
+        }
+
+        try {
+            if (setter != null) {
+                setter.accept(target, value);
+            } else {
+                handle.invokeExact(target, value);
+            }
+        } catch (Throwable e) {
+            throw new MappingException(new InvocationTargetException(e));
+        }
+    }
+}
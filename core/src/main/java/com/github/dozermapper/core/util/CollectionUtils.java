@@ -16,7 +16,6 @@
 package com.github.dozermapper.core.util;
 
 import java.lang.reflect.Array;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -106,14 +105,7 @@ public final class CollectionUtils {
     }
 
     public static List<Object> convertPrimitiveArrayToList(Object primitiveArray) {
-        int length = Array.getLength(primitiveArray);
-        List<Object> result = new ArrayList<>(length);
-
-        // wrap and copy elements
-        for (int i = 0; i < length; i++) {
-            result.add(Array.get(primitiveArray, i));
-        }
-        return result;
+        return PrimitiveArrays.toList(primitiveArray);
     }
 
     public static <E> Set<E> intersection(final Set<E> set1, final Set<?> set2) {
@@ -177,6 +177,7 @@ public final class MappingUtils {
         destination.setDateFormat(source.getDateFormat());
         destination.setRelationshipType(source.getRelationshipType());
         destination.setStopOnErrors(source.isStopOnErrors());
+        destination.setTreeMode(source.isTreeMode());
         destination.setAllowedExceptions(source.getAllowedExceptions());
         destination.setSrcClassCreateMethod(source.getDestClassCreateMethod());
         destination.setDestClassCreateMethod(source.getSrcClassCreateMethod());
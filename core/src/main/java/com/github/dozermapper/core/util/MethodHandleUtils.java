@@ -0,0 +1,115 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.util;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Internal class that binds reflective members to {@link MethodHandle}s and lambdas, so they can be invoked
+ * repeatedly without the cost of reflection. Not intended for direct use by application code.
+ */
+public final class MethodHandleUtils {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private MethodHandleUtils() {
+    }
+
+    /**
+     * Lambdas are spun in the class loader of Dozer, so only public methods of public classes visible from
+     * that class loader can be bound.
+     *
+     * @param method method to bind
+     * @return true if the method can be bound with {@link #bindLambda(Class, String, MethodType, MethodType, Method)}
+     */
+    public static boolean isLambdaBindable(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        if (!Modifier.isPublic(method.getModifiers()) || Modifier.isStatic(method.getModifiers())
+            || !Modifier.isPublic(declaringClass.getModifiers())) {
+            return false;
+        }
+
+        try {
+            return Class.forName(declaringClass.getName(), false, MethodHandleUtils.class.getClassLoader()) == declaringClass;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Binds a method to an instance of a functional interface with {@link LambdaMetafactory}
+     *
+     * @param functionalInterface functional interface to implement
+     * @param methodName          name of the functional interface method
+     * @param erasedType          erased signature of the functional interface method
+     * @param instantiatedType    signature the functional interface method is specialized to
+     * @param method              method to invoke, see {@link #isLambdaBindable(Method)}
+     * @param <T>                 functional interface type
+     * @return functional interface instance invoking the method
+     * @throws Throwable if the method can not be bound
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T bindLambda(Class<? super T> functionalInterface, String methodName, MethodType erasedType,
+                                   MethodType instantiatedType, Method method) throws Throwable {
+        MethodHandle target = LOOKUP.unreflect(method);
+        CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, methodName, MethodType.methodType(functionalInterface), erasedType,
+                                                          target, instantiatedType);
+        return (T)callSite.getTarget().invoke();
+    }
+
+    /**
+     * Binds a method to a {@link MethodHandle}, suppressing access checks
+     *
+     * @param method method to bind
+     * @return method handle
+     * @throws ReflectiveOperationException if the method can not be accessed
+     */
+    public static MethodHandle unreflect(Method method) throws ReflectiveOperationException {
+        method.setAccessible(true);
+        return LOOKUP.unreflect(method);
+    }
+
+    /**
+     * Binds reading a field to a {@link MethodHandle}, suppressing access checks
+     *
+     * @param field field to bind
+     * @return method handle
+     * @throws ReflectiveOperationException if the field can not be accessed
+     */
+    public static MethodHandle unreflectGetter(Field field) throws ReflectiveOperationException {
+        field.setAccessible(true);
+        return LOOKUP.unreflectGetter(field);
+    }
+
+    /**
+     * Binds writing a field to a {@link MethodHandle}, suppressing access checks
+     *
+     * @param field field to bind
+     * @return method handle
+     * @throws ReflectiveOperationException if the field can not be accessed
+     */
+    public static MethodHandle unreflectSetter(Field field) throws ReflectiveOperationException {
+        field.setAccessible(true);
+        return LOOKUP.unreflectSetter(field);
+    }
+}
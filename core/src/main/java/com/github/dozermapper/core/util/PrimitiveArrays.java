@@ -0,0 +1,425 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.util;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.github.dozermapper.core.converters.ConversionException;
+
+import org.apache.commons.lang3.ClassUtils;
+
+/**
+ * Internal class for copying primitive arrays into primitive arrays of another type and between primitive arrays and
+ * lists of wrappers, without boxing or reflective access per element. Conversions between numeric types follow the
+ * rules of the primitive converters: values are truncated towards zero and a value out of the range of an integral
+ * type, or larger than the largest float, fails the conversion. Only intended for internal use.
+ */
+public final class PrimitiveArrays {
+
+    private PrimitiveArrays() {
+    }
+
+    /**
+     * Whether arrays with the given component types can be copied with {@link #copy(Object, Object, int)}
+     *
+     * @param srcComponentType  component type of the source array
+     * @param destComponentType component type of the destination array
+     * @return true if both are the same primitive type, or both are numeric primitive types
+     */
+    public static boolean canCopy(Class<?> srcComponentType, Class<?> destComponentType) {
+        if (!srcComponentType.isPrimitive() || !destComponentType.isPrimitive()) {
+            return false;
+        }
+        return srcComponentType == destComponentType || (isNumeric(srcComponentType) && isNumeric(destComponentType));
+    }
+
+    /**
+     * Copies all elements of the source array into the destination array, converting them to its component type
+     *
+     * @param src     primitive source array
+     * @param dest    primitive destination array
+     * @param destPos position of the first copied element in the destination array
+     */
+    public static void copy(Object src, Object dest, int destPos) {
+        Class<?> srcType = src.getClass().getComponentType();
+        Class<?> destType = dest.getClass().getComponentType();
+        if (srcType == destType) {
+            System.arraycopy(src, 0, dest, destPos, Array.getLength(src));
+        } else if (dest instanceof byte[]) {
+            copyToBytes(src, (byte[])dest, destPos);
+        } else if (dest instanceof short[]) {
+            copyToShorts(src, (short[])dest, destPos);
+        } else if (dest instanceof int[]) {
+            copyToInts(src, (int[])dest, destPos);
+        } else if (dest instanceof long[]) {
+            copyToLongs(src, (long[])dest, destPos);
+        } else if (dest instanceof float[]) {
+            copyToFloats(src, (float[])dest, destPos);
+        } else if (dest instanceof double[]) {
+            copyToDoubles(src, (double[])dest, destPos);
+        } else {
+            throw new IllegalArgumentException("Can not convert " + srcType + " elements to " + destType);
+        }
+    }
+
+    /**
+     * Boxes the elements of a primitive array into a list
+     *
+     * @param primitiveArray array with a primitive component type
+     * @return list of wrappers
+     */
+    public static List<Object> toList(Object primitiveArray) {
+        List<Object> result = new ArrayList<>(Array.getLength(primitiveArray));
+        addAll(primitiveArray, result);
+        return result;
+    }
+
+    /**
+     * Boxes the elements of a primitive array and adds them to a collection
+     *
+     * @param primitiveArray array with a primitive component type
+     * @param target         collection to add the wrappers to
+     */
+    public static void addAll(Object primitiveArray, Collection<Object> target) {
+        if (primitiveArray instanceof byte[]) {
+            for (byte value : (byte[])primitiveArray) {
+                target.add(value);
+            }
+        } else if (primitiveArray instanceof short[]) {
+            for (short value : (short[])primitiveArray) {
+                target.add(value);
+            }
+        } else if (primitiveArray instanceof int[]) {
+            for (int value : (int[])primitiveArray) {
+                target.add(value);
+            }
+        } else if (primitiveArray instanceof long[]) {
+            for (long value : (long[])primitiveArray) {
+                target.add(value);
+            }
+        } else if (primitiveArray instanceof float[]) {
+            for (float value : (float[])primitiveArray) {
+                target.add(value);
+            }
+        } else if (primitiveArray instanceof double[]) {
+            for (double value : (double[])primitiveArray) {
+                target.add(value);
+            }
+        } else if (primitiveArray instanceof char[]) {
+            for (char value : (char[])primitiveArray) {
+                target.add(value);
+            }
+        } else if (primitiveArray instanceof boolean[]) {
+            for (boolean value : (boolean[])primitiveArray) {
+                target.add(value);
+            }
+        }
+    }
+
+    /**
+     * Unboxes a collection of wrappers into a primitive array of the same size. Nothing is copied if an element is
+     * {@code null} or of another type than the wrapper of the array component type.
+     *
+     * @param src  collection of wrappers
+     * @param dest primitive array of the size of the collection
+     * @return false if the collection could not be copied
+     */
+    public static boolean copyFromCollection(Collection<?> src, Object dest) {
+        Class<?> wrapperType = ClassUtils.primitiveToWrapper(dest.getClass().getComponentType());
+        for (Object element : src) {
+            if (element == null || element.getClass() != wrapperType) {
+                return false;
+            }
+        }
+        int i = 0;
+        if (dest instanceof byte[]) {
+            byte[] d = (byte[])dest;
+            for (Object element : src) {
+                d[i++] = (Byte)element;
+            }
+        } else if (dest instanceof short[]) {
+            short[] d = (short[])dest;
+            for (Object element : src) {
+                d[i++] = (Short)element;
+            }
+        } else if (dest instanceof int[]) {
+            int[] d = (int[])dest;
+            for (Object element : src) {
+                d[i++] = (Integer)element;
+            }
+        } else if (dest instanceof long[]) {
+            long[] d = (long[])dest;
+            for (Object element : src) {
+                d[i++] = (Long)element;
+            }
+        } else if (dest instanceof float[]) {
+            float[] d = (float[])dest;
+            for (Object element : src) {
+                d[i++] = (Float)element;
+            }
+        } else if (dest instanceof double[]) {
+            double[] d = (double[])dest;
+            for (Object element : src) {
+                d[i++] = (Double)element;
+            }
+        } else if (dest instanceof char[]) {
+            char[] d = (char[])dest;
+            for (Object element : src) {
+                d[i++] = (Character)element;
+            }
+        } else if (dest instanceof boolean[]) {
+            boolean[] d = (boolean[])dest;
+            for (Object element : src) {
+                d[i++] = (Boolean)element;
+            }
+        }
+        return true;
+    }
+
+    private static void copyToBytes(Object src, byte[] dest, int destPos) {
+        if (src instanceof byte[]) {
+            System.arraycopy(src, 0, dest, destPos, Array.getLength(src));
+        } else if (src instanceof short[]) {
+            short[] s = (short[])src;
+            for (int i = 0; i < s.length; i++) {
+                dest[destPos + i] = (byte)toByte(s[i]);
+            }
+        } else if (src instanceof int[]) {
+            int[] s = (int[])src;
+            for (int i = 0; i < s.length; i++) {
+                dest[destPos + i] = (byte)toByte(s[i]);
+            }
+        } else if (src instanceof long[]) {
+            long[] s = (long[])src;
+            for (int i = 0; i < s.length; i++) {
+                dest[destPos + i] = (byte)toByte(s[i]);
+            }
+        } else if (src instanceof float[]) {
+            float[] s = (float[])src;
+            for (int i = 0; i < s.length; i++) {
+                dest[destPos + i] = (byte)toByte((long)s[i]);
+            }
+        } else if (src instanceof double[]) {
+            double[] s = (double[])src;
+            for (int i = 0; i < s.length; i++) {
+                dest[destPos + i] = (byte)toByte((long)s[i]);
+            }
+        } else {
+            throw new IllegalArgumentException("Not a numeric primitive array: " + src.getClass());
+        }
+    }
+
+    private static void copyToShorts(Object src, short[] dest, int destPos) {
+        if (src instanceof byte[]) {
+            byte[] s = (byte[])src;
+            for (int i = 0; i < s.length; i++) {
+                dest[destPos + i] = s[i];
+            }
+        } else if (src instanceof short[]) {
+            System.arraycopy(src, 0, dest, destPos, Array.getLength(src));
+        } else if (src instanceof int[]) {
+            int[] s = (int[])src;
+            for (int i = 0; i < s.length; i++) {
+                dest[destPos + i] = (short)toShort(s[i]);
+            }
+        } else if (src instanceof long[]) {
+            long[] s = (long[])src;
+            for (int i = 0; i < s.length; i++) {
+                dest[destPos + i] = (short)toShort(s[i]);
+            }
+        } else if (src instanceof float[]) {
+            float[] s = (float[])src;
+            for (int i = 0; i < s.length; i++) {
+                dest[destPos + i] = (short)toShort((long)s[i]);
+            }
+        } else if (src instanceof double[]) {
+            double[] s = (double[])src;
+            for (int i = 0; i < s.length; i++) {
+                dest[destPos + i] = (short)toShort((long)s[i]);
+            }
+        } else {
+            throw new IllegalArgumentException("Not a numeric primitive array: " + src.getClass());
+        }
+    }
+
+    private static void copyToInts(Object src, int[] dest, int destPos) {
+        if (src instanceof byte[]) {
+            byte[] s = (byte[])src;
+            for (int i = 0; i < s.length; i++) {
+                dest[destPos + i] = s[i];
+            }
+        } else if (src instanceof short[]) {
+            short[] s = (short[])src;
+            for (int i = 0; i < s.length; i++) {
+                dest[destPos + i] = s[i];
+            }
+        } else if (src instanceof int[]) {
+            System.arraycopy(src, 0, dest, destPos, Array.getLength(src));
+        } else if (src instanceof long[]) {
+            long[] s = (long[])src;
+            for (int i = 0; i < s.length; i++) {
+                dest[destPos + i] = (int)toInt(s[i]);
+            }
+        } else if (src instanceof float[]) {
+            float[] s = (float[])src;
+            for (int i = 0; i < s.length; i++) {
+                dest[destPos + i] = (int)toInt((long)s[i]);
+            }
+        } else if (src instanceof double[]) {
+            double[] s = (double[])src;
+            for (int i = 0; i < s.length; i++) {
+                dest[destPos + i] = (int)toInt((long)s[i]);
+            }
+        } else {
+            throw new IllegalArgumentException("Not a numeric primitive array: " + src.getClass());
+        }
+    }
+
+    private static void copyToLongs(Object src, long[] dest, int destPos) {
+        if (src instanceof byte[]) {
+            byte[] s = (byte[])src;
+            for (int i = 0; i < s.length; i++) {
+                dest[destPos + i] = s[i];
+            }
+        } else if (src instanceof short[]) {
+            short[] s = (short[])src;
+            for (int i = 0; i < s.length; i++) {
+                dest[destPos + i] = s[i];
+            }
+        } else if (src instanceof int[]) {
+            int[] s = (int[])src;
+            for (int i = 0; i < s.length; i++) {
+                dest[destPos + i] = s[i];
+            }
+        } else if (src instanceof long[]) {
+            System.arraycopy(src, 0, dest, destPos, Array.getLength(src));
+        } else if (src instanceof float[]) {
+            float[] s = (float[])src;
+            for (int i = 0; i < s.length; i++) {
+                dest[destPos + i] = (long)s[i];
+            }
+        } else if (src instanceof double[]) {
+            double[] s = (double[])src;
+            for (int i = 0; i < s.length; i++) {
+                dest[destPos + i] = (long)s[i];
+            }
+        } else {
+            throw new IllegalArgumentException("Not a numeric primitive array: " + src.getClass());
+        }
+    }
+
+    private static void copyToFloats(Object src, float[] dest, int destPos) {
+        if (src instanceof byte[]) {
+            byte[] s = (byte[])src;
+            for (int i = 0; i < s.length; i++) {
+                dest[destPos + i] = s[i];
+            }
+        } else if (src instanceof short[]) {
+            short[] s = (short[])src;
+            for (int i = 0; i < s.length; i++) {
+                dest[destPos + i] = s[i];
+            }
+        } else if (src instanceof int[]) {
+            int[] s = (int[])src;
+            for (int i = 0; i < s.length; i++) {
+                dest[destPos + i] = s[i];
+            }
+        } else if (src instanceof long[]) {
+            long[] s = (long[])src;
+            for (int i = 0; i < s.length; i++) {
+                dest[destPos + i] = s[i];
+            }
+        } else if (src instanceof float[]) {
+            System.arraycopy(src, 0, dest, destPos, Array.getLength(src));
+        } else if (src instanceof double[]) {
+            double[] s = (double[])src;
+            for (int i = 0; i < s.length; i++) {
+                dest[destPos + i] = toFloat(s[i]);
+            }
+        } else {
+            throw new IllegalArgumentException("Not a numeric primitive array: " + src.getClass());
+        }
+    }
+
+    private static void copyToDoubles(Object src, double[] dest, int destPos) {
+        if (src instanceof byte[]) {
+            byte[] s = (byte[])src;
+            for (int i = 0; i < s.length; i++) {
+                dest[destPos + i] = s[i];
+            }
+        } else if (src instanceof short[]) {
+            short[] s = (short[])src;
+            for (int i = 0; i < s.length; i++) {
+                dest[destPos + i] = s[i];
+            }
+        } else if (src instanceof int[]) {
+            int[] s = (int[])src;
+            for (int i = 0; i < s.length; i++) {
+                dest[destPos + i] = s[i];
+            }
+        } else if (src instanceof long[]) {
+            long[] s = (long[])src;
+            for (int i = 0; i < s.length; i++) {
+                dest[destPos + i] = s[i];
+            }
+        } else if (src instanceof float[]) {
+            float[] s = (float[])src;
+            for (int i = 0; i < s.length; i++) {
+                dest[destPos + i] = s[i];
+            }
+        } else if (src instanceof double[]) {
+            System.arraycopy(src, 0, dest, destPos, Array.getLength(src));
+        } else {
+            throw new IllegalArgumentException("Not a numeric primitive array: " + src.getClass());
+        }
+    }
+
+    private static boolean isNumeric(Class<?> type) {
+        return type != boolean.class && type != char.class;
+    }
+
+    private static long toByte(long value) {
+        return checkRange(value, Byte.MIN_VALUE, Byte.MAX_VALUE, byte.class);
+    }
+
+    private static long toShort(long value) {
+        return checkRange(value, Short.MIN_VALUE, Short.MAX_VALUE, short.class);
+    }
+
+    private static long toInt(long value) {
+        return checkRange(value, Integer.MIN_VALUE, Integer.MAX_VALUE, int.class);
+    }
+
+    private static float toFloat(double value) {
+        if (value > Float.MAX_VALUE) {
+            throw new ConversionException("Value '" + value + "' is too large for float", null);
+        }
+        return (float)value;
+    }
+
+    private static long checkRange(long value, long min, long max, Class<?> type) {
+        if (value > max) {
+            throw new ConversionException("Value '" + value + "' is too large for " + type, null);
+        }
+        if (value < min) {
+            throw new ConversionException("Value '" + value + "' is too small for " + type, null);
+        }
+        return value;
+    }
+}
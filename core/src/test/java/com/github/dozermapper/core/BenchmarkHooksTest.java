@@ -0,0 +1,42 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core;
+
+import java.util.function.Supplier;
+
+import com.github.dozermapper.core.vo.SimpleObj;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+public class BenchmarkHooksTest extends AbstractDozerTest {
+
+    @Test
+    public void testFullyConstructedProcessorsMapLikeTheMapper() {
+        Mapper mapper = DozerBeanMapperBuilder.buildDefault();
+        Supplier<Mapper> processors = BenchmarkHooks.fullyConstructedProcessors(mapper);
+
+        SimpleObj src = new SimpleObj();
+        src.setField1("value");
+
+        SimpleObj dest = processors.get().map(src, SimpleObj.class);
+
+        assertNotSame(processors.get(), processors.get());
+        assertEquals("value", dest.getField1());
+    }
+}
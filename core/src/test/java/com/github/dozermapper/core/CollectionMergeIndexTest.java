@@ -0,0 +1,111 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CollectionMergeIndexTest extends AbstractDozerTest {
+
+    @Test
+    public void testFindsFirstEqualElementOfList() {
+        Keyed first = new Keyed(1);
+        Keyed duplicate = new Keyed(1);
+        List<Object> list = new ArrayList<>(Arrays.asList(first, duplicate, null));
+        CollectionMergeIndex index = CollectionMergeIndex.forList(list);
+
+        assertTrue(index.contains(new Keyed(1)));
+        assertSame(first, index.get(new Keyed(1)));
+        assertTrue(index.contains(null));
+        assertFalse(index.contains(new Keyed(2)));
+    }
+
+    @Test
+    public void testFindsAddedElements() {
+        List<Object> list = new ArrayList<>();
+        CollectionMergeIndex index = CollectionMergeIndex.forList(list);
+        Keyed added = new Keyed(3);
+        list.add(added);
+        index.add(added);
+
+        assertTrue(index.contains(new Keyed(3)));
+        assertSame(added, index.get(new Keyed(3)));
+    }
+
+    @Test
+    public void testListFallsBackToEqualsWithoutHashCode() {
+        EqualsOnly existing = new EqualsOnly(5);
+        List<Object> list = new ArrayList<>(Arrays.asList(new Keyed(1), existing));
+        CollectionMergeIndex index = CollectionMergeIndex.forList(list);
+
+        assertTrue(index.contains(new EqualsOnly(5)));
+        assertSame(existing, index.get(new EqualsOnly(5)));
+        assertTrue(index.contains(new Keyed(1)));
+    }
+
+    @Test
+    public void testSetUsesHashCode() {
+        Keyed existing = new Keyed(7);
+        Set<Object> set = new LinkedHashSet<>(Arrays.asList(existing, new Keyed(8)));
+        CollectionMergeIndex index = CollectionMergeIndex.forSet(set);
+
+        assertTrue(index.contains(new Keyed(7)));
+        assertSame(existing, index.get(new Keyed(7)));
+        assertFalse(index.contains(new Keyed(9)));
+    }
+
+    public static class Keyed {
+
+        private final int key;
+
+        Keyed(int key) {
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Keyed && ((Keyed)o).key == key;
+        }
+
+        @Override
+        public int hashCode() {
+            return key;
+        }
+    }
+
+    public static class EqualsOnly {
+
+        private final int key;
+
+        EqualsOnly(int key) {
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof EqualsOnly && ((EqualsOnly)o).key == key;
+        }
+    }
+}
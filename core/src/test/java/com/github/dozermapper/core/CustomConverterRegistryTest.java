@@ -0,0 +1,103 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CustomConverterRegistryTest extends AbstractDozerTest {
+
+    @Test
+    public void testConverterClassIsInstantiatedOnce() {
+        CustomConverterRegistry registry = new CustomConverterRegistry(null);
+
+        CustomConverter converter = registry.getConverter(SharedConverter.class);
+
+        assertTrue(converter instanceof SharedConverter);
+        assertSame(converter, registry.getConverter(SharedConverter.class));
+    }
+
+    @Test
+    public void testInjectedConverterIsUsed() {
+        SharedConverter first = new SharedConverter();
+        SharedConverter second = new SharedConverter();
+        CustomConverterRegistry registry = new CustomConverterRegistry(Arrays.asList(first, second));
+
+        assertSame(second, registry.getConverter(SharedConverter.class));
+        assertSame(second, registry.getConverter(SharedConverter.class));
+    }
+
+    @Test
+    public void testInjectedSubclassIsUsed() {
+        SharedSubConverter injected = new SharedSubConverter();
+        CustomConverterRegistry registry = new CustomConverterRegistry(Arrays.asList(injected));
+
+        assertSame(injected, registry.getConverter(SharedConverter.class));
+    }
+
+    @Test
+    public void testInjectedStatefulConverterIsUsed() {
+        StatefulSubConverter injected = new StatefulSubConverter();
+        CustomConverterRegistry registry = new CustomConverterRegistry(Arrays.asList(injected));
+
+        assertSame(injected, registry.getConverter(StatefulSubConverter.class));
+    }
+
+    @Test
+    public void testStatefulConverterIsInstantiatedForEveryConversion() {
+        CustomConverterRegistry registry = new CustomConverterRegistry(null);
+
+        assertNotSame(registry.getConverter(StatefulConverterImpl.class), registry.getConverter(StatefulConverterImpl.class));
+        assertNotSame(registry.getConverter(StatefulSubConverter.class), registry.getConverter(StatefulSubConverter.class));
+    }
+
+    @Test
+    public void testMapperAwareConverterIsInstantiatedForEveryConversion() {
+        CustomConverterRegistry registry = new CustomConverterRegistry(null);
+
+        assertNotSame(registry.getConverter(MapperAwareConverter.class), registry.getConverter(MapperAwareConverter.class));
+    }
+
+    public static class SharedConverter implements CustomConverter {
+
+        @Override
+        public Object convert(Object existingDestinationFieldValue, Object sourceFieldValue, Class<?> destinationClass, Class<?> sourceClass) {
+            return sourceFieldValue;
+        }
+    }
+
+    public static class SharedSubConverter extends SharedConverter {
+    }
+
+    @StatefulConverter
+    public static class StatefulConverterImpl extends SharedConverter {
+    }
+
+    public static class StatefulSubConverter extends StatefulConverterImpl {
+    }
+
+    public static class MapperAwareConverter extends SharedConverter implements MapperAware {
+
+        @Override
+        public void setMapper(Mapper mapper) {
+        }
+    }
+}
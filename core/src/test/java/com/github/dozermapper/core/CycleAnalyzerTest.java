@@ -0,0 +1,180 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CycleAnalyzerTest extends AbstractDozerTest {
+
+    private final CycleAnalyzer analyzer = new CycleAnalyzer();
+
+    @Test
+    public void testTreeOfValuesIsNotTracked() {
+        assertFalse(analyzer.requiresTracking(Order.class));
+        assertFalse(analyzer.requiresTracking(Line.class));
+    }
+
+    @Test
+    public void testSelfReferenceIsTracked() {
+        assertTrue(analyzer.requiresTracking(Category.class));
+    }
+
+    @Test
+    public void testIndirectCycleThroughCollectionIsTracked() {
+        assertTrue(analyzer.requiresTracking(Parent.class));
+        assertTrue(analyzer.requiresTracking(Child.class));
+    }
+
+    @Test
+    public void testUntypedValuesAreTracked() {
+        assertTrue(analyzer.requiresTracking(Untyped.class));
+        assertTrue(analyzer.requiresTracking(RawList.class));
+        assertTrue(analyzer.requiresTracking(Generic.class));
+        assertTrue(analyzer.requiresTracking(WithInterface.class));
+    }
+
+    @Test
+    public void testCycleClosedThroughSubclassIsTracked() {
+        assertTrue(analyzer.requiresTracking(Holder.class));
+    }
+
+    @Test
+    public void testNonFinalFieldTypeIsTracked() {
+        assertTrue(analyzer.requiresTracking(WithOpenType.class));
+    }
+
+    @Test
+    public void testMapsAreTracked() {
+        assertTrue(analyzer.requiresTracking(java.util.HashMap.class));
+    }
+
+    public static class Order {
+        private String id;
+        private BigDecimal total;
+        private Date created;
+        private List<Line> lines;
+        private Map<String, Line> linesById;
+        private Line[] lineArray;
+        private Status status;
+
+        public String getId() {
+            return id;
+        }
+
+        public BigDecimal getTotal() {
+            return total;
+        }
+
+        public Date getCreated() {
+            return created;
+        }
+
+        public List<Line> getLines() {
+            return lines;
+        }
+
+        public Map<String, Line> getLinesById() {
+            return linesById;
+        }
+
+        public Line[] getLineArray() {
+            return lineArray;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+    }
+
+    public static final class Line {
+        private int quantity;
+        private String product;
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public String getProduct() {
+            return product;
+        }
+    }
+
+    public enum Status {
+        OPEN, CLOSED
+    }
+
+    public static class Category {
+        private Category parent;
+
+        public Category getParent() {
+            return parent;
+        }
+    }
+
+    public static class Parent {
+        private List<Child> children;
+    }
+
+    public static class Child {
+        private Parent parent;
+    }
+
+    public static class Untyped {
+        private Object value;
+    }
+
+    public static class RawList {
+        @SuppressWarnings("rawtypes")
+        private List values;
+    }
+
+    public static class Generic<T> {
+        private T value;
+    }
+
+    public static class WithInterface {
+        private Serializable value;
+    }
+
+    public static class Holder {
+        private Item item;
+
+        public Item getItem() {
+            return item;
+        }
+    }
+
+    public static class Item {
+        private String name;
+    }
+
+    public static class HolderItem extends Item {
+        private Holder holder;
+    }
+
+    public static class WithOpenType {
+        private Item item;
+    }
+}
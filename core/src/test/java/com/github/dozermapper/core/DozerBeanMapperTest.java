@@ -16,11 +16,19 @@
 package com.github.dozermapper.core;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 
+import com.github.dozermapper.core.cache.Cache;
+import com.github.dozermapper.core.cache.CacheMetricsListener;
+import com.github.dozermapper.core.cache.DozerCacheType;
 import com.github.dozermapper.core.events.EventListener;
+import com.github.dozermapper.core.events.EventTypes;
+import com.github.dozermapper.core.vo.SimpleObj;
 import com.github.dozermapper.core.vo.TestObject;
 import com.github.dozermapper.core.vo.generics.deepindex.TestObjectPrime;
 
@@ -29,6 +37,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -124,4 +133,113 @@ public class DozerBeanMapperTest {
         verify(listener).onMappingFinished(any());
         verifyNoMoreInteractions(listener);
     }
+
+    @Test
+    public void shouldSetEventListenerWithoutSubscribedEvents() {
+        EventListener listener = mock(EventListener.class);
+
+        Mapper beanMapper = DozerBeanMapperBuilder.create()
+                .withEventListener(listener, Collections.emptySet())
+                .build();
+        beanMapper.map(new Object(), new Object());
+
+        verifyNoMoreInteractions(listener);
+    }
+
+    @Test
+    public void shouldSetEventListenerForSubscribedEvents() {
+        EventListener listener = mock(EventListener.class);
+
+        Mapper beanMapper = DozerBeanMapperBuilder.create()
+                .withEventListener(listener, new HashSet<>(Collections.singletonList(EventTypes.MAPPING_FINISHED)))
+                .build();
+        beanMapper.map(new Object(), new Object());
+
+        verify(listener).onMappingFinished(any());
+        verifyNoMoreInteractions(listener);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectNullEventTypes() {
+        DozerBeanMapperBuilder.create()
+                .withEventListener(mock(EventListener.class), null);
+    }
+
+    @Test
+    public void shouldMergeEventTypesOfListenerRegisteredTwice() {
+        EventListener listener = mock(EventListener.class);
+
+        Mapper beanMapper = DozerBeanMapperBuilder.create()
+                .withEventListener(listener, EnumSet.of(EventTypes.MAPPING_STARTED))
+                .withEventListener(listener, EnumSet.of(EventTypes.MAPPING_FINISHED))
+                .build();
+        beanMapper.map(new Object(), new Object());
+
+        verify(listener).onMappingStarted(any());
+        verify(listener).onMappingFinished(any());
+        verifyNoMoreInteractions(listener);
+    }
+
+    @Test
+    public void shouldKeepAllEventsOfListenerRegisteredWithoutEventTypes() {
+        EventListener listener = mock(EventListener.class);
+
+        Mapper beanMapper = DozerBeanMapperBuilder.create()
+                .withEventListener(listener)
+                .withEventListener(listener, EnumSet.of(EventTypes.MAPPING_FINISHED))
+                .build();
+        beanMapper.map(new Object(), new Object());
+
+        verify(listener).onMappingStarted(any());
+        verify(listener).onMappingFinished(any());
+        verifyNoMoreInteractions(listener);
+    }
+
+    @Test
+    public void shouldSubscribeListenerToAllEventsWhenRegisteredWithoutEventTypes() {
+        EventListener listener = mock(EventListener.class);
+
+        Mapper beanMapper = DozerBeanMapperBuilder.create()
+                .withEventListener(listener, EnumSet.of(EventTypes.MAPPING_FINISHED))
+                .withEventListener(listener)
+                .build();
+        beanMapper.map(new Object(), new Object());
+
+        verify(listener).onMappingStarted(any());
+        verify(listener).onMappingFinished(any());
+        verifyNoMoreInteractions(listener);
+    }
+
+    @Test
+    public void shouldSetCacheMetricsListener() {
+        CacheMetricsListener listener = mock(CacheMetricsListener.class);
+
+        Mapper beanMapper = DozerBeanMapperBuilder.create()
+                .withCacheMetricsListener(listener)
+                .build();
+        Cache cache = beanMapper.getMapperModelContext().getCacheManager().getCache(DozerCacheType.SUPER_TYPE_CHECK.name());
+        cache.get("missing");
+
+        verify(listener).onMiss(DozerCacheType.SUPER_TYPE_CHECK.name());
+        assertEquals(1, cache.getStatistics().getMissCount());
+    }
+
+    @Test
+    public void shouldCountConverterByDestTypeCacheMisses() {
+        Mapper beanMapper = DozerBeanMapperBuilder.create()
+                .withMappingFiles("mappings/simpleCustomConverter.xml")
+                .build();
+        Cache cache = beanMapper.getMapperModelContext().getCacheManager().getCache(DozerCacheType.CONVERTER_BY_DEST_TYPE.name());
+        SimpleObj source = new SimpleObj();
+        source.setField2(1);
+
+        beanMapper.map(source, SimpleObj.class);
+        long misses = cache.getStatistics().getMissCount();
+        long hits = cache.getStatistics().getHitCount();
+        beanMapper.map(source, SimpleObj.class);
+
+        assertTrue(misses > 0);
+        assertEquals(misses, cache.getStatistics().getMissCount());
+        assertTrue(cache.getStatistics().getHitCount() > hits);
+    }
 }
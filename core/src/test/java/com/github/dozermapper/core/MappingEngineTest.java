@@ -0,0 +1,113 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.github.dozermapper.core.functional_tests.MapAllTest.Person;
+import com.github.dozermapper.core.functional_tests.MapAllTest.PersonPrime;
+import com.github.dozermapper.core.vo.A;
+import com.github.dozermapper.core.vo.B;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class MappingEngineTest extends AbstractDozerTest {
+
+    @Test
+    public void testEngineIsSharedBetweenRequests() {
+        DozerBeanMapper mapper = (DozerBeanMapper)DozerBeanMapperBuilder.buildDefault();
+
+        MappingEngine engine = mapper.getMappingEngine();
+        mapper.map(new A(), A.class);
+        mapper.map(new A(), A.class);
+
+        assertSame(engine, mapper.getMappingEngine());
+        assertNotSame(mapper.getMappingProcessor(), mapper.getMappingProcessor());
+    }
+
+    @Test
+    public void testProcessorsDoNotShareMappedFields() {
+        DozerBeanMapper mapper = (DozerBeanMapper)DozerBeanMapperBuilder.buildDefault();
+        MappingEngine engine = mapper.getMappingEngine();
+
+        A src = new A();
+        src.setB(new B());
+
+        A dest1 = new A();
+        engine.newProcessor().map(src, dest1);
+        A dest2 = new A();
+        engine.newProcessor().map(src, dest2);
+
+        assertNotNull(dest1.getB());
+        assertNotNull(dest2.getB());
+        assertNotSame(dest1.getB(), dest2.getB());
+    }
+
+    @Test
+    public void testParallelChunksOfProcessorDoNotShareMappedFields() {
+        DozerBeanMapper mapper = (DozerBeanMapper)DozerBeanMapperBuilder.buildDefault();
+        List<Person> sources = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            Person person = new Person(String.valueOf(i), i);
+            person.setFriend(person);
+            sources.add(person);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<PersonPrime> result;
+        try {
+            result = mapper.getMappingEngine().newProcessor().mapAllParallel(sources, PersonPrime.class, null, executor);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(sources.size(), result.size());
+        for (int i = 0; i < sources.size(); i++) {
+            assertEquals(String.valueOf(i), result.get(i).getName());
+            assertSame(result.get(i), result.get(i).getFriend());
+        }
+    }
+
+    @Test
+    public void testMappingFunctionOfProcessorIsThreadsafe() {
+        DozerBeanMapper mapper = (DozerBeanMapper)DozerBeanMapperBuilder.buildDefault();
+        Function<Person, PersonPrime> function = mapper.getMappingEngine().newProcessor().mappingFunction(PersonPrime.class);
+        List<Person> sources = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            Person person = new Person(String.valueOf(i), i);
+            person.setFriend(person);
+            sources.add(person);
+        }
+
+        List<PersonPrime> result = sources.parallelStream().map(function).collect(Collectors.toList());
+
+        assertNotSame(function.apply(sources.get(0)), function.apply(sources.get(0)));
+        for (int i = 0; i < sources.size(); i++) {
+            assertEquals(String.valueOf(i), result.get(i).getName());
+            assertSame(result.get(i), result.get(i).getFriend());
+        }
+    }
+}
@@ -0,0 +1,391 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+import com.github.dozermapper.core.classmap.ClassMap;
+import com.github.dozermapper.core.config.Settings;
+import com.github.dozermapper.core.events.Event;
+import com.github.dozermapper.core.events.EventListener;
+import com.github.dozermapper.core.events.EventTypes;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class MappingPlanCompilerTest extends AbstractDozerTest {
+
+    private DozerBeanMapper compiledMapper;
+    private Mapper interpretedMapper;
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        compiledMapper = (DozerBeanMapper)withCompiledPlans(DozerBeanMapperBuilder.create()).build();
+        interpretedMapper = DozerBeanMapperBuilder.buildDefault();
+    }
+
+    @Test
+    public void testCompiledPlanMatchesInterpreter() {
+        Source src = newSource();
+
+        Destination compiled = compiledMapper.map(src, Destination.class);
+        Destination interpreted = interpretedMapper.map(src, Destination.class);
+
+        assertEquals(interpreted.getCount(), compiled.getCount());
+        assertEquals(interpreted.getTotal(), compiled.getTotal());
+        assertEquals(interpreted.getAmount(), compiled.getAmount());
+        assertEquals(interpreted.getRatio(), compiled.getRatio(), 0.0d);
+        assertEquals(interpreted.getName(), compiled.getName());
+        assertEquals(interpreted.getActive(), compiled.getActive());
+        assertEquals(interpreted.getCode(), compiled.getCode());
+        assertEquals(interpreted.getNumber(), compiled.getNumber());
+        assertEquals(interpreted.getChild().getName(), compiled.getChild().getName());
+        assertNotSame(src.getChild(), compiled.getChild());
+    }
+
+    @Test
+    public void testSimpleFieldsAreCompiled() {
+        compiledMapper.map(newSource(), Destination.class);
+
+        MappingEngine engine = compiledMapper.getMappingEngine();
+        ClassMap classMap = engine.getClassMappings().find(Source.class, Destination.class);
+        MappingPlan plan = engine.getMappingPlanCompiler().getPlan(classMap, Source.class, Destination.class);
+
+        assertNotNull(plan);
+        // child needs recursion and number needs a String conversion, so both are left to the interpreter
+        assertEquals(plan.size() - 2, plan.getCompiledFieldCount());
+    }
+
+    @Test
+    public void testNullValues() {
+        Source src = new Source();
+        src.setAmount(null);
+        src.setCode(null);
+        src.setName(null);
+
+        Destination dest = new Destination();
+        dest.setCode(5);
+        dest.setName("existing");
+        compiledMapper.map(src, dest);
+
+        assertEquals(5, dest.getCode());
+        assertNull(dest.getName());
+        assertNull(dest.getAmount());
+    }
+
+    @Test
+    public void testGetterExceptionIsWrapped() {
+        Source src = newSource();
+        src.setFailing(true);
+
+        try {
+            compiledMapper.map(src, Destination.class);
+            fail("Expected exception from getter");
+        } catch (MappingException e) {
+            assertTrue(e.getCause() instanceof InvocationTargetException);
+            assertTrue(((InvocationTargetException)e.getCause()).getTargetException() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    public void testPlansAreNotUsedWithEventListeners() {
+        DozerBeanMapper mapper = (DozerBeanMapper)withCompiledPlans(DozerBeanMapperBuilder.create())
+                .withEventListener(new EventListener() {
+                    @Override
+                    public void onMappingStarted(Event event) {
+                    }
+
+                    @Override
+                    public void onPreWritingDestinationValue(Event event) {
+                    }
+
+                    @Override
+                    public void onPostWritingDestinationValue(Event event) {
+                    }
+
+                    @Override
+                    public void onMappingFinished(Event event) {
+                    }
+                })
+                .build();
+
+        assertNull(mapper.getMappingEngine().getMappingPlanCompiler());
+        assertEquals(7, mapper.map(newSource(), Destination.class).getCount());
+    }
+
+    @Test
+    public void testPlansAreUsedWithMappingFinishedListener() {
+        List<Object> finished = new ArrayList<>();
+        DozerBeanMapper mapper = (DozerBeanMapper)withCompiledPlans(DozerBeanMapperBuilder.create())
+                .withEventListener(new EventListener() {
+                    @Override
+                    public void onMappingStarted(Event event) {
+                    }
+
+                    @Override
+                    public void onPreWritingDestinationValue(Event event) {
+                    }
+
+                    @Override
+                    public void onPostWritingDestinationValue(Event event) {
+                    }
+
+                    @Override
+                    public void onMappingFinished(Event event) {
+                        finished.add(event.getDestinationObject());
+                    }
+                }, EnumSet.of(EventTypes.MAPPING_FINISHED))
+                .build();
+
+        Destination result = mapper.map(newSource(), Destination.class);
+
+        assertNotNull(mapper.getMappingEngine().getMappingPlanCompiler());
+        assertEquals(Collections.singletonList(result), finished);
+    }
+
+    @Test
+    public void testPlansAreNotUsedByDefault() {
+        assertNull(((DozerBeanMapper)interpretedMapper).getMappingEngine().getMappingPlanCompiler());
+    }
+
+    private static DozerBeanMapperBuilder withCompiledPlans(DozerBeanMapperBuilder builder) {
+        return builder.withSettingsProcessor(() -> {
+            Settings settings = new Settings();
+            settings.setUseCompiledMappingPlans(true);
+            return settings;
+        });
+    }
+
+    private static Source newSource() {
+        Source src = new Source();
+        src.setCount(7);
+        src.setTotal(Integer.MAX_VALUE);
+        src.setAmount(12.5f);
+        src.setRatio(3);
+        src.setName("name");
+        src.setActive(true);
+        src.setCode(42);
+        src.setNumber("17");
+
+        Child child = new Child();
+        child.setName("child");
+        src.setChild(child);
+        return src;
+    }
+
+    public static class Source {
+
+        private int count;
+        private int total;
+        private Float amount;
+        private long ratio;
+        private String name;
+        private boolean active;
+        private Integer code;
+        private String number;
+        private Child child;
+        private boolean failing;
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public void setTotal(int total) {
+            this.total = total;
+        }
+
+        public Float getAmount() {
+            return amount;
+        }
+
+        public void setAmount(Float amount) {
+            this.amount = amount;
+        }
+
+        public long getRatio() {
+            return ratio;
+        }
+
+        public void setRatio(long ratio) {
+            this.ratio = ratio;
+        }
+
+        public String getName() {
+            if (failing) {
+                throw new IllegalStateException("failing");
+            }
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public Integer getCode() {
+            return code;
+        }
+
+        public void setCode(Integer code) {
+            this.code = code;
+        }
+
+        public String getNumber() {
+            return number;
+        }
+
+        public void setNumber(String number) {
+            this.number = number;
+        }
+
+        public Child getChild() {
+            return child;
+        }
+
+        public void setChild(Child child) {
+            this.child = child;
+        }
+
+        public void setFailing(boolean failing) {
+            this.failing = failing;
+        }
+    }
+
+    public static class Destination {
+
+        private int count;
+        private long total;
+        private Double amount;
+        private double ratio;
+        private String name;
+        private Boolean active;
+        private int code;
+        private int number;
+        private Child child;
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        public void setTotal(long total) {
+            this.total = total;
+        }
+
+        public Double getAmount() {
+            return amount;
+        }
+
+        public void setAmount(Double amount) {
+            this.amount = amount;
+        }
+
+        public double getRatio() {
+            return ratio;
+        }
+
+        public void setRatio(double ratio) {
+            this.ratio = ratio;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Boolean getActive() {
+            return active;
+        }
+
+        public void setActive(Boolean active) {
+            this.active = active;
+        }
+
+        public int getCode() {
+            return code;
+        }
+
+        public void setCode(int code) {
+            this.code = code;
+        }
+
+        public int getNumber() {
+            return number;
+        }
+
+        public void setNumber(int number) {
+            this.number = number;
+        }
+
+        public Child getChild() {
+            return child;
+        }
+
+        public void setChild(Child child) {
+            this.child = child;
+        }
+    }
+
+    public static class Child {
+
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}
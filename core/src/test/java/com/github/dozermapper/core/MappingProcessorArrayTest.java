@@ -17,9 +17,12 @@ package com.github.dozermapper.core;
 
 import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 
 import org.junit.Test;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 
@@ -37,6 +40,30 @@ public class MappingProcessorArrayTest extends AbstractDozerTest {
         }
     }
 
+    public static class LongArray {
+        private long[] data;
+
+        public long[] getData() {
+            return data;
+        }
+
+        public void setData(long[] data) {
+            this.data = data;
+        }
+    }
+
+    public static class LongList {
+        private List<Long> data;
+
+        public List<Long> getData() {
+            return data;
+        }
+
+        public void setData(List<Long> data) {
+            this.data = data;
+        }
+    }
+
     public static final class MyDate extends Date {
         public MyDate(long ms) {
             super(ms);
@@ -87,6 +114,21 @@ public class MappingProcessorArrayTest extends AbstractDozerTest {
         assertTrue(Arrays.equals(test.getData(), result.getData()));
     }
 
+    @Test
+    public void testPrimitiveArrayConversion() {
+        PrimitiveArray test = new PrimitiveArray();
+        test.setData(new int[] {Integer.MIN_VALUE, 0, Integer.MAX_VALUE});
+        Mapper dozer = DozerBeanMapperBuilder.buildDefault();
+
+        LongArray longArray = dozer.map(test, LongArray.class);
+        LongList longList = dozer.map(test, LongList.class);
+        PrimitiveArray intArray = dozer.map(longList, PrimitiveArray.class);
+
+        assertArrayEquals(new long[] {Integer.MIN_VALUE, 0, Integer.MAX_VALUE}, longArray.getData());
+        assertEquals(Arrays.asList((long)Integer.MIN_VALUE, 0L, (long)Integer.MAX_VALUE), longList.getData());
+        assertArrayEquals(test.getData(), intArray.getData());
+    }
+
     @Test
     public void testReferenceCopy() {
 
@@ -21,13 +21,16 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import com.github.dozermapper.core.loader.api.BeanMappingBuilder;
 import com.github.dozermapper.core.vo.A;
 import com.github.dozermapper.core.vo.B;
 
 import org.junit.Before;
 import org.junit.Test;
 
+import static com.github.dozermapper.core.loader.api.FieldsMappingOptions.customConverter;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertSame;
@@ -134,6 +137,23 @@ public class MappingProcessorTest extends AbstractDozerTest {
         assertEquals(new Ordered(0), destinationList.get(3));
     }
 
+    @Test
+    public void testRemoveOrphans_Large() {
+        for (int i = 0; i < 20000; i++) {
+            destinationList.add(new Ordered(i));
+        }
+        for (int i = 19999; i >= 10000; i--) {
+            sourceList.add(new Ordered(i));
+        }
+        sourceList.add(new Ordered(-1));
+
+        MappingProcessor.removeOrphans(sourceList, destinationList);
+        assertEquals(10001, destinationList.size());
+        assertEquals(new Ordered(10000), destinationList.get(0));
+        assertEquals(new Ordered(19999), destinationList.get(9999));
+        assertEquals(new Ordered(-1), destinationList.get(10000));
+    }
+
     private static final class Ordered {
         private int id;
 
@@ -196,4 +216,85 @@ public class MappingProcessorTest extends AbstractDozerTest {
         assertEquals(source.getMap().size(), target.getMap().size());
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testFieldCustomConverterIsCreatedOnce() {
+        CountingConverter.INSTANCES.set(0);
+        Mapper mapper = DozerBeanMapperBuilder.create()
+                .withMappingBuilder(new ConverterMappings(CountingConverter.class))
+                .build();
+
+        for (int i = 0; i < 3; i++) {
+            Target target = mapper.map(newSource(), Target.class);
+            assertEquals(1, target.getMap().size());
+        }
+
+        assertEquals(1, CountingConverter.INSTANCES.get());
+    }
+
+    @Test
+    public void testStatefulFieldCustomConverterIsCreatedForEveryConversion() {
+        StatefulCountingConverter.INSTANCES.set(0);
+        Mapper mapper = DozerBeanMapperBuilder.create()
+                .withMappingBuilder(new ConverterMappings(StatefulCountingConverter.class))
+                .build();
+
+        for (int i = 0; i < 3; i++) {
+            mapper.map(newSource(), Target.class);
+        }
+
+        assertEquals(3, StatefulCountingConverter.INSTANCES.get());
+    }
+
+    private static Source newSource() {
+        Source source = new Source();
+        Map<String, Set<String>> sourceMap = new HashMap<>();
+        sourceMap.put("foo", new HashSet<>(List.of("bar")));
+        source.setMap(sourceMap);
+        return source;
+    }
+
+    private static class ConverterMappings extends BeanMappingBuilder {
+
+        private final Class<? extends CustomConverter> converterClass;
+
+        ConverterMappings(Class<? extends CustomConverter> converterClass) {
+            this.converterClass = converterClass;
+        }
+
+        @Override
+        protected void configure() {
+            mapping(Source.class, Target.class)
+                    .fields("map", "map", customConverter(converterClass));
+        }
+    }
+
+    public static class CountingConverter implements CustomConverter {
+
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        public CountingConverter() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public Object convert(Object existingDestinationFieldValue, Object sourceFieldValue, Class<?> destinationClass, Class<?> sourceClass) {
+            return new HashMap<>((Map<?, ?>)sourceFieldValue);
+        }
+    }
+
+    @StatefulConverter
+    public static class StatefulCountingConverter implements CustomConverter {
+
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        public StatefulCountingConverter() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public Object convert(Object existingDestinationFieldValue, Object sourceFieldValue, Class<?> destinationClass, Class<?> sourceClass) {
+            return new HashMap<>((Map<?, ?>)sourceFieldValue);
+        }
+    }
+}
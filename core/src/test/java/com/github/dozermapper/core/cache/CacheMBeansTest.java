@@ -0,0 +1,88 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.cache;
+
+import java.util.List;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import com.github.dozermapper.core.AbstractDozerTest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CacheMBeansTest extends AbstractDozerTest {
+
+    private MBeanServer server;
+    private CacheManager cacheManager;
+
+    @Override
+    @Before
+    public void setUp() {
+        server = MBeanServerFactory.newMBeanServer();
+        cacheManager = new DefaultCacheManager();
+        cacheManager.putCache(DozerCacheType.CONVERTER_BY_DEST_TYPE.name(), 10);
+        cacheManager.putCache(DozerCacheType.SUPER_TYPE_CHECK.name(), 10);
+    }
+
+    @Test
+    public void canRegisterEveryCache() throws Exception {
+        List<ObjectName> names = CacheMBeans.register(cacheManager, "mapper", server);
+
+        assertEquals(2, names.size());
+        for (ObjectName name : names) {
+            assertTrue(server.isRegistered(name));
+        }
+    }
+
+    @Test
+    public void canReadStatistics() throws Exception {
+        Cache<Object, Object> cache = cacheManager.getCache(DozerCacheType.SUPER_TYPE_CHECK.name());
+        cache.put("a", "value");
+        cache.get("a");
+        cache.get("b");
+        CacheMBeans.register(cacheManager, "mapper", server);
+
+        ObjectName name = new ObjectName("com.github.dozermapper.core:type=Cache,mapper=\"mapper\",name=\"SUPER_TYPE_CHECK\"");
+        assertEquals(1L, server.getAttribute(name, "Size"));
+        assertEquals(10, server.getAttribute(name, "MaxSize"));
+        assertEquals(1L, server.getAttribute(name, "HitCount"));
+        assertEquals(1L, server.getAttribute(name, "MissCount"));
+        assertEquals(1L, server.getAttribute(name, "LoadCount"));
+        assertEquals(0L, server.getAttribute(name, "EvictionCount"));
+        assertEquals(0.5d, server.getAttribute(name, "HitRate"));
+    }
+
+    @Test
+    public void canUnregisterMapper() {
+        List<ObjectName> names = CacheMBeans.register(cacheManager, "mapper", server);
+        List<ObjectName> otherNames = CacheMBeans.register(cacheManager, "other", server);
+
+        CacheMBeans.unregister("mapper", server);
+
+        for (ObjectName name : names) {
+            assertFalse(server.isRegistered(name));
+        }
+        for (ObjectName name : otherNames) {
+            assertTrue(server.isRegistered(name));
+        }
+    }
+}
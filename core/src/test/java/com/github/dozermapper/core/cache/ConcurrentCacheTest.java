@@ -0,0 +1,217 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.github.dozermapper.core.AbstractDozerTest;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class ConcurrentCacheTest extends AbstractDozerTest {
+
+    @Test
+    public void testPutGetFromCache() {
+        Cache<Object, String> cache = new ConcurrentCache<>(getRandomString(), 50);
+        int numCacheEntriesToAdd = 45;
+        for (int i = 0; i < numCacheEntriesToAdd; i++) {
+            Object key = String.valueOf(i);
+
+            assertNull("cache entry should not already exist", cache.get(key));
+
+            cache.put(key, "testvalue" + i);
+
+            assertEquals("cache entries should be equal", "testvalue" + i, cache.get(key));
+            assertTrue(cache.containsKey(key));
+        }
+        assertEquals("invalid cache size", numCacheEntriesToAdd, cache.getSize());
+    }
+
+    @Test
+    public void testPutReplacesValue() {
+        Cache<Object, String> cache = new ConcurrentCache<>(getRandomString(), 5);
+        cache.put("key", "first");
+        cache.put("key", "second");
+
+        assertEquals("second", cache.get("key"));
+        assertEquals(1, cache.getSize());
+    }
+
+    @Test
+    public void testMaximumCacheSize() {
+        int maxSize = 25;
+        Cache<Object, String> cache = new ConcurrentCache<>(getRandomString(), maxSize);
+        for (int i = 0; i < maxSize + 125; i++) {
+            cache.put("testkey" + i, "testvalue" + i);
+        }
+        assertEquals("cache size should not exceed max size", maxSize, cache.getSize());
+    }
+
+    @Test
+    public void testFrequentEntriesSurviveOneOffEntries() {
+        int maxSize = 10;
+        Cache<Object, String> cache = new ConcurrentCache<>(getRandomString(), maxSize);
+        for (int i = 0; i < maxSize; i++) {
+            cache.put("frequent" + i, "value" + i);
+            for (int j = 0; j < 5; j++) {
+                cache.get("frequent" + i);
+            }
+        }
+
+        for (int i = 0; i < 100; i++) {
+            cache.get("frequent" + (i % maxSize));
+            String key = "once" + i;
+            if (cache.get(key) == null) {
+                cache.put(key, "value");
+            }
+        }
+
+        for (int i = 0; i < maxSize; i++) {
+            assertEquals("value" + i, cache.get("frequent" + i));
+        }
+        assertEquals(maxSize, cache.getSize());
+    }
+
+    @Test
+    public void testNewEntriesReplaceUnusedEntries() {
+        int maxSize = 10;
+        Cache<Object, String> cache = new ConcurrentCache<>(getRandomString(), maxSize);
+        for (int i = 0; i < maxSize; i++) {
+            cache.put("old" + i, "value");
+        }
+
+        for (int i = 0; i < maxSize; i++) {
+            cache.get("new" + i);
+            cache.put("new" + i, "value");
+        }
+
+        for (int i = 0; i < maxSize; i++) {
+            assertTrue(cache.containsKey("new" + i));
+        }
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        int maxSize = 100;
+        Cache<Object, Object> cache = new ConcurrentCache<>(getRandomString(), maxSize);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int offset = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10000; i++) {
+                        Integer key = (i * 7 + offset) % 500;
+                        Object value = cache.get(key);
+                        if (value == null) {
+                            cache.put(key, key);
+                        } else {
+                            assertEquals(key, value);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue("cache size should not exceed max size", cache.getSize() <= maxSize);
+    }
+
+    @Test
+    public void testStatisticsAreReportedToListener() {
+        CacheMetricsListener listener = mock(CacheMetricsListener.class);
+        Cache<Object, String> cache = new ConcurrentCache<>("name", 1, listener);
+        cache.get("a");
+        cache.put("a", "value");
+        cache.get("a");
+        cache.put("b", "value");
+
+        CacheStatistics statistics = cache.getStatistics();
+        assertEquals(1, statistics.getHitCount());
+        assertEquals(1, statistics.getMissCount());
+        assertEquals(2, statistics.getLoadCount());
+        assertEquals(1, statistics.getEvictionCount());
+        verify(listener).onHit("name");
+        verify(listener).onMiss("name");
+        verify(listener, times(2)).onLoad("name");
+        verify(listener).onEviction("name");
+    }
+
+    @Test
+    public void testClear() {
+        Cache<Object, String> cache = new ConcurrentCache<>(getRandomString(), 50);
+        Object key = CacheKeyFactory.createKey(String.class, Integer.class);
+        cache.put(key, "testvalue");
+
+        assertEquals("cache should contain entry", 1, cache.getSize());
+        cache.clear();
+        assertEquals("cache should have been cleared", 0, cache.getSize());
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    public void testGetMaxSize() {
+        assertEquals("invalid max size", 550, new ConcurrentCache<>(getRandomString(), 550).getMaxSize());
+    }
+
+    @Test
+    public void testMaximumCacheSize_Largest() {
+        Cache<Object, String> cache = new ConcurrentCache<>(getRandomString(), Integer.MAX_VALUE);
+        cache.put("key", "value");
+
+        assertEquals("value", cache.get("key"));
+        assertEquals(Integer.MAX_VALUE, cache.getMaxSize());
+    }
+
+    @Test
+    public void testFrequencySketchTableLength() {
+        assertEquals(64, FrequencySketch.tableLength(1));
+        assertEquals(64, FrequencySketch.tableLength(64));
+        assertEquals(128, FrequencySketch.tableLength(65));
+        assertEquals(1 << 20, FrequencySketch.tableLength((1 << 30) + 1));
+        assertEquals(1 << 20, FrequencySketch.tableLength(Integer.MAX_VALUE));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMaximumCacheSize_Zero() {
+        new ConcurrentCache<>(getRandomString(), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetNull() {
+        new ConcurrentCache<>(getRandomString(), 5).get(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPutNull() {
+        new ConcurrentCache<>(getRandomString(), 5).put(null, null);
+    }
+}
@@ -55,6 +55,14 @@ public class DefaultCacheManagerTest extends AbstractDozerTest {
         assertNotSame(cacheMgr, cacheMgr2);
     }
 
+    @Test
+    public void canCreateConcurrentCaches() {
+        CacheManager concurrentCacheMgr = new DefaultCacheManager(true);
+
+        assertTrue(concurrentCacheMgr.putCache(getRandomString(), 1) instanceof ConcurrentCache);
+        assertTrue(cacheMgr.putCache(getRandomString(), 1) instanceof DefaultCache);
+    }
+
     @Test
     public void canAddGetExistsCache() {
         String cacheName = getRandomString();
@@ -88,6 +88,23 @@ public class DefaultCacheTest extends AbstractDozerTest {
         assertEquals("invalid max size", maxSize, cache.getMaxSize());
     }
 
+    @Test
+    public void testStatistics() {
+        Cache<Object, String> cache = new DefaultCache<>(getRandomString(), 2);
+        cache.get("a");
+        cache.put("a", "value");
+        cache.get("a");
+        cache.put("b", "value");
+        cache.put("c", "value");
+
+        CacheStatistics statistics = cache.getStatistics();
+        assertEquals(1, statistics.getHitCount());
+        assertEquals(1, statistics.getMissCount());
+        assertEquals(3, statistics.getLoadCount());
+        assertEquals(1, statistics.getEvictionCount());
+        assertEquals(0.5d, statistics.getHitRate(), 0d);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testGetNull() {
         Cache cache = new DefaultCache(getRandomString(), 5);
@@ -27,6 +27,9 @@ import org.junit.Test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -72,6 +75,42 @@ public class ClassMappingsTest extends AbstractDozerTest {
         assertEquals(2, result.size());
     }
 
+    @Test
+    public void shouldKeyAllByClassMapKey() {
+        ClassMap classMap = mock(ClassMap.class);
+        ClassMap classMapWithId = mock(ClassMap.class);
+        classMappings.add(String.class, Integer.class, classMap);
+        classMappings.add(String.class, Integer.class, "id", classMapWithId);
+
+        Map<String, ClassMap> result = classMappings.getAll();
+
+        ClassMapKeyFactory keyFactory = new ClassMapKeyFactory(new BeanContainer());
+        assertSame(classMap, result.get(keyFactory.createKey(String.class, Integer.class)));
+        assertSame(classMapWithId, result.get(keyFactory.createKey(String.class, Integer.class, "id")));
+    }
+
+    @Test
+    public void shouldTreatEmptyMapIdAsNone() {
+        ClassMap classMap = mock(ClassMap.class);
+        classMappings.add(String.class, Integer.class, "", classMap);
+
+        assertSame(classMap, classMappings.find(String.class, Integer.class));
+        assertTrue(classMappings.contains(String.class, Integer.class, null));
+        assertEquals(1, classMappings.size());
+    }
+
+    @Test
+    public void shouldAddAll() {
+        ClassMappings additional = new ClassMappings(new BeanContainer());
+        ClassMap classMap = mock(ClassMap.class);
+        additional.add(String.class, Integer.class, "id", classMap);
+
+        classMappings.addAll(additional);
+
+        assertSame(classMap, classMappings.find(String.class, Integer.class, "id"));
+        assertNull(classMappings.find(String.class, Integer.class));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void shouldFailOnDuplicate() {
         ClassMap classMap = mock(ClassMap.class);
@@ -94,6 +133,72 @@ public class ClassMappingsTest extends AbstractDozerTest {
         classMappings.add(String.class, String.class, classMap);
     }
 
+    @Test
+    public void shouldFindInterfaceMapping() {
+        ClassMap classMap = classMap(CharSequence.class, Integer.class, null);
+        classMappings.add(CharSequence.class, Integer.class, classMap);
+
+        assertSame(classMap, classMappings.find(String.class, Integer.class, null));
+        assertSame(classMap, classMappings.find(String.class, Integer.class, null));
+        assertNull(classMappings.find(Long.class, Integer.class, null));
+    }
+
+    @Test
+    public void shouldFindConcreteMappingForAbstractDestination() {
+        ClassMap classMap = classMap(String.class, Integer.class, null);
+        classMappings.add(String.class, Integer.class, classMap);
+
+        assertSame(classMap, classMappings.find(String.class, Number.class, null));
+        assertNull(classMappings.find(StringBuilder.class, Number.class, null));
+    }
+
+    @Test
+    public void shouldFindSuperclassMappingByMapId() {
+        ClassMap classMap = classMap(Number.class, CharSequence.class, "id");
+        classMappings.add(Number.class, CharSequence.class, "id", classMap);
+        classMappings.add(Number.class, CharSequence.class, classMap(Number.class, CharSequence.class, null));
+
+        assertSame(classMap, classMappings.find(Integer.class, String.class, "id"));
+        assertSame(classMap, classMappings.find(Integer.class, String.class, "id"));
+    }
+
+    @Test
+    public void shouldForgetUnresolvedMappingOnceAdded() {
+        assertNull(classMappings.find(String.class, Number.class, null));
+
+        ClassMap classMap = classMap(String.class, Integer.class, null);
+        classMappings.add(String.class, Integer.class, classMap);
+
+        assertSame(classMap, classMappings.find(String.class, Number.class, null));
+    }
+
+    @Test
+    public void shouldFailAgainWhenNotFoundByMapId() {
+        for (int i = 0; i < 2; i++) {
+            try {
+                classMappings.find(Integer.class, String.class, "id");
+                fail("should have thrown exception");
+            } catch (MappingException e) {
+                assertTrue(e.getMessage().startsWith("Class mapping not found by map-id"));
+            }
+        }
+
+        ClassMap classMap = classMap(Number.class, CharSequence.class, "id");
+        classMappings.add(Number.class, CharSequence.class, "id", classMap);
+
+        assertSame(classMap, classMappings.find(Integer.class, String.class, "id"));
+    }
+
+    private static ClassMap classMap(Class<?> srcClass, Class<?> destClass, String mapId) {
+        ClassMap classMap = mock(ClassMap.class);
+        when(classMap.getSrcClassToMap()).thenAnswer(invocation -> srcClass);
+        when(classMap.getDestClassToMap()).thenAnswer(invocation -> destClass);
+        when(classMap.getMapId()).thenReturn(mapId);
+        when(classMap.getSrcClassName()).thenReturn(srcClass.getName());
+        when(classMap.getDestClassName()).thenReturn(destClass.getName());
+        return classMap;
+    }
+
     public static class NestedClass {
 
     }
@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.github.dozermapper.core.AbstractDozerTest;
+import com.github.dozermapper.core.cache.Cache;
 import com.github.dozermapper.core.cache.CacheKeyFactory;
 import com.github.dozermapper.core.cache.DefaultCache;
 
@@ -29,6 +30,11 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class CustomConverterContainerTest extends AbstractDozerTest {
 
@@ -116,4 +122,21 @@ public class CustomConverterContainerTest extends AbstractDozerTest {
 
         assertEquals(1, cache.getSize());
     }
+
+    @Test
+    public void shouldLookUpCachedMissOnce() {
+        CustomConverterDescription description = new CustomConverterDescription();
+        description.setClassA(String.class);
+        description.setClassB(String.class);
+        ccc.addConverter(description);
+
+        Cache cache = spy(new DefaultCache("NAME", 10));
+
+        assertNull(ccc.getCustomConverter(Integer.class, Double.class, cache));
+        assertNull(ccc.getCustomConverter(Integer.class, Double.class, cache));
+
+        verify(cache, times(2)).get(any());
+        verify(cache, times(1)).put(any(), any());
+        verify(cache, never()).containsKey(any());
+    }
 }
@@ -23,9 +23,17 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
@@ -39,6 +47,7 @@ import org.junit.Test;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -572,4 +581,86 @@ public class PrimitiveOrWrapperConverterTest extends AbstractDozerTest {
         assertThat(result, equalTo(Date.class));
     }
 
+    @Test
+    public void shouldUseDirectConversionsForCommonPairs() {
+        assertEquals(5L, converter.convert(5, Long.TYPE, (String)null, null, null));
+        assertEquals(5.0d, converter.convert((short)5, Double.class, (String)null, null, null));
+        assertEquals(42, converter.convert(" 42 ", Integer.TYPE, (String)null, null, null));
+        assertEquals("42", converter.convert(42L, String.class, "yyyy-MM-dd", null, null));
+
+        Integer input = 1234;
+        assertThat(converter.convert(input, Integer.class, (String)null, null, null) == input, equalTo(true));
+    }
+
+    @Test(expected = ConversionException.class)
+    public void shouldFailDirectParseOfInvalidNumber() {
+        converter.convert("12a", Long.class, (String)null, null, null);
+    }
+
+    @Test
+    public void shouldConvertDatesWithPatternOnEveryCall() throws Exception {
+        SimpleDateFormat dateFormat = new SimpleDateFormat("dd.MM.yyyy");
+        for (String input : new String[] {"01.02.2020", "03.04.2021"}) {
+            assertEquals(dateFormat.parse(input), converter.convert(input, Date.class, "dd.MM.yyyy", null, null));
+        }
+        assertEquals("01.02.2020", converter.convert(dateFormat.parse("01.02.2020"), String.class, "dd.MM.yyyy", null, null));
+    }
+
+    @Test
+    public void shouldShareDateConversionsBetweenThreads() throws Exception {
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            String input = "2020-0" + (i % 9 + 1) + "-1" + (i % 10) + " 10:" + (10 + i) + ":00";
+            Date expected = dateFormat.parse(input);
+            tasks.add(() -> {
+                for (int j = 0; j < 500; j++) {
+                    Object date = converter.convert(input, Date.class, "yyyy-MM-dd HH:mm:ss", null, null);
+                    Object text = converter.convert(expected, String.class, "yyyy-MM-dd HH:mm:ss", null, null);
+                    if (!expected.equals(date) || !input.equals(text)) {
+                        return false;
+                    }
+                }
+                return true;
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (Future<Boolean> result : executor.invokeAll(tasks)) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldApplySharedDateFormatSettingsToAllThreads() throws Exception {
+        DateFormat dateFormat = new DateFormatContainer("yyyy-MM-dd HH:mm", Locale.US, true).getDateFormat();
+        assertTrue(dateFormat.isLenient());
+        assertNotNull(dateFormat.getCalendar());
+        assertNotNull(dateFormat.getNumberFormat());
+
+        dateFormat.setLenient(false);
+        dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> formatted = executor.submit(() -> {
+                assertFalse(dateFormat.isLenient());
+                assertEquals(TimeZone.getTimeZone("UTC"), dateFormat.getTimeZone());
+                return dateFormat.format(new Date(0));
+            });
+            assertEquals("1970-01-01 00:00", formatted.get());
+        } finally {
+            executor.shutdown();
+        }
+
+        DateFormat copy = (DateFormat)dateFormat.clone();
+        assertEquals(dateFormat, copy);
+        copy.setTimeZone(TimeZone.getTimeZone("GMT+01:00"));
+        assertEquals("1970-01-01 01:00", copy.format(new Date(0)));
+        assertEquals("1970-01-01 00:00", dateFormat.format(new Date(0)));
+    }
 }
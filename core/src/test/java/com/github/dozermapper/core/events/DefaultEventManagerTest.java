@@ -16,12 +16,16 @@
 package com.github.dozermapper.core.events;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 
 import org.junit.Test;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -116,4 +120,42 @@ public class DefaultEventManagerTest {
         verify(listener).onMappingFinished(mockedEvent);
         assertTrue(true);
     }
+
+    @Test
+    public void reportsNoSubscriptionsWithoutListeners() {
+        EventManager manager = new DefaultEventManager(null);
+
+        for (EventTypes eventType : EventTypes.values()) {
+            assertFalse(manager.isSubscribed(eventType));
+        }
+    }
+
+    @Test
+    public void subscribesListenersToAllTypesByDefault() {
+        EventManager manager = new DefaultEventManager(Collections.singletonList(mock(EventListener.class)));
+
+        for (EventTypes eventType : EventTypes.values()) {
+            assertTrue(manager.isSubscribed(eventType));
+        }
+    }
+
+    @Test
+    public void onlyCallsBackSubscribedTypes() {
+        Event finishedEvent = mock(DefaultEvent.class);
+        when(finishedEvent.getType()).thenReturn(EventTypes.MAPPING_FINISHED);
+        Event preWriteEvent = mock(DefaultEvent.class);
+        when(preWriteEvent.getType()).thenReturn(EventTypes.MAPPING_PRE_WRITING_DEST_VALUE);
+
+        EventListener listener = mock(EventListener.class);
+
+        EventManager manager = new DefaultEventManager(Collections.singletonList(listener),
+                                                       Collections.singletonMap(listener, EnumSet.of(EventTypes.MAPPING_FINISHED)));
+        manager.on(finishedEvent);
+        manager.on(preWriteEvent);
+
+        assertTrue(manager.isSubscribed(EventTypes.MAPPING_FINISHED));
+        assertFalse(manager.isSubscribed(EventTypes.MAPPING_PRE_WRITING_DEST_VALUE));
+        verify(listener).onMappingFinished(finishedEvent);
+        verify(listener, never()).onPreWritingDestinationValue(preWriteEvent);
+    }
 }
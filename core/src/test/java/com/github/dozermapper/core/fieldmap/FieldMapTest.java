@@ -22,6 +22,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import com.github.dozermapper.core.AbstractDozerTest;
+import com.github.dozermapper.core.CustomConverter;
 import com.github.dozermapper.core.classmap.ClassMap;
 import com.github.dozermapper.core.classmap.DozerClass;
 import com.github.dozermapper.core.config.BeanContainer;
@@ -31,7 +32,11 @@ import com.github.dozermapper.core.propertydescriptor.PropertyDescriptorFactory;
 import org.junit.Before;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -132,4 +137,83 @@ public class FieldMapTest extends AbstractDozerTest {
         assertFalse(fieldMap.isDestFieldAccessible());
     }
 
+    @Test
+    public void shouldResolveCustomConverterClassOnce() {
+        fieldMap.setCustomConverter(TestConverter.class.getName());
+
+        assertEquals(TestConverter.class, fieldMap.getCustomConverterClass());
+        assertSame(fieldMap.getCustomConverterClass(), fieldMap.getCustomConverterClass());
+    }
+
+    @Test
+    public void shouldResetResolvedConverterWhenConverterChanges() {
+        fieldMap.setCustomConverter(TestConverter.class.getName());
+        fieldMap.getCustomConverterClass();
+        fieldMap.bindCustomConverter(new TestConverter());
+
+        fieldMap.setCustomConverter(null);
+
+        assertNull(fieldMap.getCustomConverterClass());
+        assertNull(fieldMap.getBoundCustomConverter());
+    }
+
+    @Test
+    public void shouldReuseGenericTypeFieldMap() {
+        fieldMap.setSrcField(new DozerField("values", null));
+        fieldMap.setDestField(new DozerField("values", null));
+
+        FieldMap result = fieldMap.getGenericTypeFieldMap(GenericHolder.class);
+
+        assertNotSame(fieldMap, result);
+        assertNull(fieldMap.getDestHintContainer());
+        assertEquals(String.class, result.getDestHintContainer().getHint());
+        assertSame(result, fieldMap.getGenericTypeFieldMap(GenericHolder.class));
+        assertSame(result, result.getGenericTypeFieldMap(GenericHolder.class));
+        assertSame(fieldMap, fieldMap.getGenericTypeFieldMap(RawHolder.class));
+    }
+
+    @Test
+    public void shouldNotShareGenericTypeFieldMapsWithClone() {
+        fieldMap.setSrcField(new DozerField("values", null));
+        fieldMap.setDestField(new DozerField("values", null));
+        FieldMap result = fieldMap.getGenericTypeFieldMap(GenericHolder.class);
+
+        FieldMap clone = (FieldMap)fieldMap.clone();
+
+        assertNotSame(result, clone.getGenericTypeFieldMap(GenericHolder.class));
+    }
+
+    public static class GenericHolder {
+
+        private List<String> values;
+
+        public List<String> getValues() {
+            return values;
+        }
+
+        public void setValues(List<String> values) {
+            this.values = values;
+        }
+    }
+
+    public static class RawHolder {
+
+        private List values;
+
+        public List getValues() {
+            return values;
+        }
+
+        public void setValues(List values) {
+            this.values = values;
+        }
+    }
+
+    public static class TestConverter implements CustomConverter {
+
+        @Override
+        public Object convert(Object existingDestinationFieldValue, Object sourceFieldValue, Class<?> destinationClass, Class<?> sourceClass) {
+            return sourceFieldValue;
+        }
+    }
 }
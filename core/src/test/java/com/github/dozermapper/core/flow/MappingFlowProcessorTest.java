@@ -0,0 +1,370 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.flow;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import com.github.dozermapper.core.AbstractDozerTest;
+import com.github.dozermapper.core.DozerBeanMapperBuilder;
+import com.github.dozermapper.core.Mapper;
+import com.github.dozermapper.core.MappingException;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class MappingFlowProcessorTest extends AbstractDozerTest {
+
+    private final Mapper mapper = DozerBeanMapperBuilder.buildDefault();
+
+    @Test
+    public void testElementsAreMappedInOrder() {
+        TestPublisher publisher = new TestPublisher();
+        MappingFlowProcessor<Source, Dest> processor = new MappingFlowProcessor<>(mapper, Dest.class);
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        subscriber.request(Long.MAX_VALUE);
+        for (int i = 0; i < 100; i++) {
+            publisher.next(new Source(i));
+        }
+        publisher.complete();
+
+        assertEquals(100, subscriber.values.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, subscriber.values.get(i).getValue());
+        }
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void testDemandIsPassedOnOneToOne() {
+        TestPublisher publisher = new TestPublisher();
+        MappingFlowProcessor<Source, Dest> processor = new MappingFlowProcessor<>(mapper, Dest.class);
+        TestSubscriber subscriber = new TestSubscriber();
+        processor.subscribe(subscriber);
+
+        subscriber.request(3);
+        publisher.subscribe(processor);
+        assertEquals(3, publisher.requested);
+
+        subscriber.request(2);
+        assertEquals(5, publisher.requested);
+    }
+
+    @Test
+    public void testBatchIsMappedWhenRequestedElementsArrived() {
+        TestPublisher publisher = new TestPublisher();
+        MappingFlowProcessor<Source, Dest> processor = new MappingFlowProcessor<>(mapper, Dest.class, null, 2, 60000, null);
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        subscriber.request(3);
+        publisher.next(new Source(0));
+        assertEquals(0, subscriber.values.size());
+
+        publisher.next(new Source(1));
+        assertEquals(2, subscriber.values.size());
+
+        publisher.next(new Source(2));
+        assertEquals(3, subscriber.values.size());
+        assertFalse(subscriber.completed);
+
+        publisher.complete();
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void testBatchIsMappedWhenUpstreamCompletes() {
+        TestPublisher publisher = new TestPublisher();
+        MappingFlowProcessor<Source, Dest> processor = new MappingFlowProcessor<>(mapper, Dest.class, null, 10, null);
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        subscriber.request(5);
+        publisher.next(new Source(0));
+        publisher.complete();
+
+        assertEquals(1, subscriber.values.size());
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void testPartialBatchIsFlushedForSlowUpstream() throws InterruptedException {
+        TestPublisher publisher = new TestPublisher();
+        MappingFlowProcessor<Source, Dest> processor = new MappingFlowProcessor<>(mapper, Dest.class, null, 10, 50, null);
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        subscriber.request(Long.MAX_VALUE);
+        publisher.next(new Source(0));
+        publisher.next(new Source(1));
+
+        assertTrue(subscriber.received(2, 10, TimeUnit.SECONDS));
+        assertEquals(1, subscriber.values.get(1).getValue());
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void testElementsAreMappedImmediatelyWithoutFlushDelay() {
+        TestPublisher publisher = new TestPublisher();
+        MappingFlowProcessor<Source, Dest> processor = new MappingFlowProcessor<>(mapper, Dest.class, null, 10, 0, null);
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        subscriber.request(Long.MAX_VALUE);
+        publisher.next(new Source(0));
+
+        assertEquals(1, subscriber.values.size());
+    }
+
+    @Test
+    public void testUpstreamErrorIsDeliveredAfterReceivedElements() {
+        TestPublisher publisher = new TestPublisher();
+        MappingFlowProcessor<Source, Dest> processor = new MappingFlowProcessor<>(mapper, Dest.class, null, 10, null);
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        IllegalStateException error = new IllegalStateException("upstream");
+
+        subscriber.request(5);
+        publisher.next(new Source(0));
+        publisher.error(error);
+
+        assertEquals(1, subscriber.values.size());
+        assertEquals(error, subscriber.error);
+    }
+
+    @Test
+    public void testMappingFailureCancelsUpstream() {
+        TestPublisher publisher = new TestPublisher();
+        MappingFlowProcessor<Source, Dest> processor = new MappingFlowProcessor<>(mapper, Dest.class, null, 1, null);
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        subscriber.request(5);
+        publisher.next(new Source(0));
+        publisher.next(new BrokenSource());
+        publisher.next(new Source(2));
+
+        assertEquals(1, subscriber.values.size());
+        assertTrue(subscriber.error instanceof MappingException);
+        assertTrue(publisher.cancelled);
+    }
+
+    @Test
+    public void testCancelIsPassedOn() {
+        TestPublisher publisher = new TestPublisher();
+        MappingFlowProcessor<Source, Dest> processor = new MappingFlowProcessor<>(mapper, Dest.class, null, 1, null);
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        subscriber.request(5);
+        publisher.next(new Source(0));
+        subscriber.subscription.cancel();
+        publisher.next(new Source(1));
+
+        assertEquals(1, subscriber.values.size());
+        assertTrue(publisher.cancelled);
+    }
+
+    @Test
+    public void testNonPositiveRequestIsRejected() {
+        TestPublisher publisher = new TestPublisher();
+        MappingFlowProcessor<Source, Dest> processor = new MappingFlowProcessor<>(mapper, Dest.class);
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        subscriber.request(0);
+
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+        assertTrue(publisher.cancelled);
+    }
+
+    @Test
+    public void testSecondSubscriberIsRejected() {
+        MappingFlowProcessor<Source, Dest> processor = new MappingFlowProcessor<>(mapper, Dest.class);
+        TestSubscriber first = new TestSubscriber();
+        TestSubscriber second = new TestSubscriber();
+
+        processor.subscribe(first);
+        processor.subscribe(second);
+
+        assertNull(first.error);
+        assertTrue(second.error instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testSignalsRunOnExecutor() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            TestPublisher publisher = new TestPublisher();
+            MappingFlowProcessor<Source, Dest> processor = new MappingFlowProcessor<>(mapper, Dest.class, null, 4, executor);
+            TestSubscriber subscriber = new TestSubscriber();
+            publisher.subscribe(processor);
+            processor.subscribe(subscriber);
+
+            subscriber.request(10);
+            for (int i = 0; i < 10; i++) {
+                publisher.next(new Source(i));
+            }
+            publisher.complete();
+
+            assertTrue(subscriber.terminated.await(10, TimeUnit.SECONDS));
+            assertEquals(10, subscriber.values.size());
+            assertEquals(9, subscriber.values.get(9).getValue());
+            assertNotSame(Thread.currentThread(), subscriber.thread);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static final class TestPublisher implements Flow.Publisher<Source> {
+
+        private Flow.Subscriber<? super Source> subscriber;
+        private long requested;
+        private boolean cancelled;
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Source> subscriber) {
+            this.subscriber = subscriber;
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    requested += n;
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+
+        void next(Source source) {
+            subscriber.onNext(source);
+        }
+
+        void complete() {
+            subscriber.onComplete();
+        }
+
+        void error(Throwable throwable) {
+            subscriber.onError(throwable);
+        }
+    }
+
+    private static final class TestSubscriber implements Flow.Subscriber<Dest> {
+
+        private final List<Dest> values = new CopyOnWriteArrayList<>();
+        private final CountDownLatch terminated = new CountDownLatch(1);
+        private final Semaphore receivedValues = new Semaphore(0);
+        private Flow.Subscription subscription;
+        private volatile Thread thread;
+        private volatile boolean completed;
+        private volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Dest item) {
+            thread = Thread.currentThread();
+            values.add(item);
+            receivedValues.release();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+
+        void request(long n) {
+            subscription.request(n);
+        }
+
+        boolean received(int count, long timeout, TimeUnit unit) throws InterruptedException {
+            return receivedValues.tryAcquire(count, timeout, unit);
+        }
+    }
+
+    public static class Source {
+        private int value;
+
+        public Source() {
+        }
+
+        public Source(int value) {
+            this.value = value;
+        }
+
+        public int getValue() {
+            return value;
+        }
+
+        public void setValue(int value) {
+            this.value = value;
+        }
+    }
+
+    public static class BrokenSource extends Source {
+
+        @Override
+        public int getValue() {
+            throw new IllegalStateException("broken");
+        }
+    }
+
+    public static class Dest {
+        private int value;
+
+        public int getValue() {
+            return value;
+        }
+
+        public void setValue(int value) {
+            this.value = value;
+        }
+    }
+}
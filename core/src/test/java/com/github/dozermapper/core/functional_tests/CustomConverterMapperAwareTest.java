@@ -16,19 +16,27 @@
 package com.github.dozermapper.core.functional_tests;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.github.dozermapper.core.CustomConverter;
 import com.github.dozermapper.core.DozerBeanMapperBuilder;
 import com.github.dozermapper.core.DozerConverter;
 import com.github.dozermapper.core.Mapper;
 import com.github.dozermapper.core.MapperAware;
+import com.github.dozermapper.core.loader.api.BeanMappingBuilder;
 
 import org.junit.Test;
 
+import static com.github.dozermapper.core.loader.api.FieldsMappingOptions.customConverter;
+import static com.github.dozermapper.core.loader.api.TypeMappingOptions.wildcard;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class CustomConverterMapperAwareTest extends AbstractFunctionalTest {
@@ -98,6 +106,82 @@ public class CustomConverterMapperAwareTest extends AbstractFunctionalTest {
         assertNotNull(result.getBeanB());
     }
 
+    @Test
+    public void test_mapAllWithinCyclicGraph() {
+        Mapper mapper = DozerBeanMapperBuilder.create()
+                .withMappingBuilder(new BeanMappingBuilder() {
+                    @Override
+                    protected void configure() {
+                        mapping(Team.class, Team.class, wildcard(false))
+                                .fields("leader", "leader")
+                                .fields("members", "members", customConverter(MapAllConverter.class))
+                                .fields("deputy", "deputy");
+                    }
+                })
+                .build();
+        BeanA leader = new BeanA("leader");
+        BeanB leaderB = new BeanB();
+        leader.setBeanB(leaderB);
+        leaderB.setBeanA(leader);
+        Team team = new Team();
+        team.setLeader(leader);
+        team.setMembers(new ArrayList<>(Arrays.asList(leader, new BeanA("member"))));
+        team.setDeputy(leader);
+
+        Team result = mapper.map(team, Team.class);
+
+        assertSame(result.getLeader(), result.getDeputy());
+        assertSame(result.getLeader(), result.getLeader().getBeanB().getBeanA());
+        assertEquals(2, result.getMembers().size());
+        assertNotSame(result.getLeader(), result.getMembers().get(0));
+        assertSame(result.getMembers().get(0), result.getMembers().get(0).getBeanB().getBeanA());
+        assertEquals("member", result.getMembers().get(1).getA());
+    }
+
+    public static class MapAllConverter implements CustomConverter, MapperAware {
+
+        private Mapper mapper;
+
+        public void setMapper(Mapper mapper) {
+            this.mapper = mapper;
+        }
+
+        @Override
+        public Object convert(Object existingDestinationFieldValue, Object sourceFieldValue, Class<?> destinationClass, Class<?> sourceClass) {
+            return mapper.mapAll((List<?>)sourceFieldValue, BeanA.class);
+        }
+    }
+
+    public static class Team {
+        private BeanA leader;
+        private List<BeanA> members;
+        private BeanA deputy;
+
+        public BeanA getLeader() {
+            return leader;
+        }
+
+        public void setLeader(BeanA leader) {
+            this.leader = leader;
+        }
+
+        public List<BeanA> getMembers() {
+            return members;
+        }
+
+        public void setMembers(List<BeanA> members) {
+            this.members = members;
+        }
+
+        public BeanA getDeputy() {
+            return deputy;
+        }
+
+        public void setDeputy(BeanA deputy) {
+            this.deputy = deputy;
+        }
+    }
+
     public static class Converter extends DozerConverter<List, Map> implements MapperAware {
 
         private Mapper mapper;
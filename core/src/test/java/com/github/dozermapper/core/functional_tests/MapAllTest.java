@@ -0,0 +1,362 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.functional_tests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.github.dozermapper.core.DozerBeanMapperBuilder;
+import com.github.dozermapper.core.Mapper;
+import com.github.dozermapper.core.MapperModelContext;
+import com.github.dozermapper.core.MappingException;
+import com.github.dozermapper.core.loader.api.BeanMappingBuilder;
+import com.github.dozermapper.core.loader.api.TypeMappingOptions;
+import com.github.dozermapper.core.util.MappingUtils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class MapAllTest extends AbstractFunctionalTest {
+
+    @Test
+    public void testElementsAreMappedInOrder() {
+        List<Person> sources = Arrays.asList(new Person("a", 1), null, new Employee("b", 2, "dozer"), new Person("c", 3));
+
+        List<PersonPrime> result = mapper.mapAll(sources, PersonPrime.class);
+
+        assertEquals(4, result.size());
+        assertEquals("a", result.get(0).getName());
+        assertNull(result.get(1));
+        assertEquals("b", result.get(2).getName());
+        assertEquals(2, result.get(2).getAge());
+        assertEquals("c", result.get(3).getName());
+    }
+
+    @Test
+    public void testIterableIsMapped() {
+        Iterable<Person> sources = () -> Collections.singletonList(new Person("a", 1)).iterator();
+
+        List<PersonPrime> result = mapper.mapAll(sources, PersonPrime.class);
+
+        assertEquals(1, result.size());
+        assertEquals("a", result.get(0).getName());
+    }
+
+    @Test
+    public void testElementsAreMappedIndependently() {
+        Person person = new Person("a", 1);
+
+        List<PersonPrime> result = mapper.mapAll(Arrays.asList(person, person), PersonPrime.class);
+
+        assertNotSame(result.get(0), result.get(1));
+    }
+
+    @Test
+    public void testReferencesWithinElementAreShared() {
+        Person person = new Person("a", 1);
+        Person friend = new Person("b", 2);
+        person.setFriend(friend);
+        person.setPartner(friend);
+
+        List<PersonPrime> result = mapper.mapAll(Collections.singletonList(person), PersonPrime.class);
+
+        assertSame(result.get(0).getFriend(), result.get(0).getPartner());
+    }
+
+    @Test
+    public void testMapIdIsApplied() {
+        Mapper mapIdMapper = DozerBeanMapperBuilder.create()
+                .withMappingBuilder(new BeanMappingBuilder() {
+                    @Override
+                    protected void configure() {
+                        mapping(Person.class, PersonPrime.class, TypeMappingOptions.mapId("nameOnly"))
+                                .exclude("age");
+                    }
+                })
+                .build();
+
+        List<PersonPrime> result = mapIdMapper.mapAll(Arrays.asList(new Person("a", 1), new Employee("b", 2, "dozer")), PersonPrime.class, "nameOnly");
+
+        assertEquals("a", result.get(0).getName());
+        assertEquals(0, result.get(0).getAge());
+        assertEquals("b", result.get(1).getName());
+        assertEquals(0, result.get(1).getAge());
+    }
+
+    @Test
+    public void testCustomConverterIsApplied() {
+        Mapper converterMapper = getMapper("mappings/newCustomConverter.xml");
+        List<String> sources = Arrays.asList("yes", "no", "yes");
+
+        List<Boolean> result = converterMapper.mapAll(sources, Boolean.class);
+
+        for (int i = 0; i < sources.size(); i++) {
+            assertEquals(converterMapper.map(sources.get(i), Boolean.class), result.get(i));
+        }
+    }
+
+    @Test
+    public void testDefaultImplementationMatchesMapper() {
+        Mapper delegating = new DelegatingMapper(mapper);
+        List<Person> sources = Arrays.asList(new Person("a", 1), null, new Employee("b", 2, "dozer"));
+
+        List<PersonPrime> expected = mapper.mapAll(sources, PersonPrime.class);
+        List<PersonPrime> result = delegating.mapAll(sources, PersonPrime.class);
+
+        assertEquals(expected.size(), result.size());
+        assertEquals(expected.get(0).getName(), result.get(0).getName());
+        assertNull(result.get(1));
+        assertEquals(expected.get(2).getAge(), result.get(2).getAge());
+    }
+
+    @Test
+    public void testNullSourcesAreRejected() {
+        try {
+            mapper.mapAll(null, PersonPrime.class);
+            fail("should have thrown exception");
+        } catch (MappingException e) {
+            assertTrue(e.getMessage().contains("Source object must not be null"));
+        }
+    }
+
+    @Test
+    public void testParallelMappingKeepsOrder() {
+        List<Person> sources = createPersons(5000);
+        sources.set(100, null);
+
+        List<PersonPrime> result = mapper.mapAllParallel(sources, PersonPrime.class);
+
+        assertEquals(sources.size(), result.size());
+        assertNull(result.get(100));
+        for (int i = 0; i < sources.size(); i++) {
+            if (i != 100) {
+                assertEquals(String.valueOf(i), result.get(i).getName());
+                assertEquals(i, result.get(i).getAge());
+            }
+        }
+    }
+
+    @Test
+    public void testParallelMappingUsesExecutor() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        AtomicInteger tasks = new AtomicInteger();
+        try {
+            List<PersonPrime> result = mapper.mapAllParallel(createPersons(5000), PersonPrime.class, null, task -> {
+                tasks.incrementAndGet();
+                executor.execute(task);
+            });
+
+            assertEquals(5000, result.size());
+            assertEquals("4999", result.get(4999).getName());
+            assertTrue(tasks.get() > 1);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testSmallBatchIsMappedOnCallingThread() {
+        AtomicInteger tasks = new AtomicInteger();
+
+        List<PersonPrime> result = mapper.mapAllParallel(createPersons(10), PersonPrime.class, null, task -> {
+            tasks.incrementAndGet();
+            task.run();
+        });
+
+        assertEquals(10, result.size());
+        assertEquals(0, tasks.get());
+    }
+
+    @Test
+    public void testParallelMappingFailureIsPropagated() {
+        List<Person> sources = createPersons(5000);
+        sources.set(4000, new BrokenPerson());
+
+        try {
+            mapper.mapAllParallel(sources, PersonPrime.class);
+            fail("should have thrown exception");
+        } catch (MappingException e) {
+            assertTrue(MappingUtils.getRootCause(e) instanceof IllegalStateException);
+        }
+    }
+
+    private static List<Person> createPersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(new Person(String.valueOf(i), i));
+        }
+        return persons;
+    }
+
+    private static final class DelegatingMapper implements Mapper {
+
+        private final Mapper delegate;
+
+        DelegatingMapper(Mapper delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public <T> T map(Object source, Class<T> destinationClass) {
+            return delegate.map(source, destinationClass);
+        }
+
+        @Override
+        public void map(Object source, Object destination) {
+            delegate.map(source, destination);
+        }
+
+        @Override
+        public <T> T map(Object source, Class<T> destinationClass, String mapId) {
+            return delegate.map(source, destinationClass, mapId);
+        }
+
+        @Override
+        public void map(Object source, Object destination, String mapId) {
+            delegate.map(source, destination, mapId);
+        }
+
+        @Override
+        public MapperModelContext getMapperModelContext() {
+            return delegate.getMapperModelContext();
+        }
+    }
+
+    public static class Person {
+        private String name;
+        private int age;
+        private Person friend;
+        private Person partner;
+
+        public Person() {
+        }
+
+        public Person(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        public Person getFriend() {
+            return friend;
+        }
+
+        public void setFriend(Person friend) {
+            this.friend = friend;
+        }
+
+        public Person getPartner() {
+            return partner;
+        }
+
+        public void setPartner(Person partner) {
+            this.partner = partner;
+        }
+    }
+
+    public static class Employee extends Person {
+        private String company;
+
+        public Employee() {
+        }
+
+        public Employee(String name, int age, String company) {
+            super(name, age);
+            this.company = company;
+        }
+
+        public String getCompany() {
+            return company;
+        }
+
+        public void setCompany(String company) {
+            this.company = company;
+        }
+    }
+
+    public static class BrokenPerson extends Person {
+
+        @Override
+        public String getName() {
+            throw new IllegalStateException("broken");
+        }
+    }
+
+    public static class PersonPrime {
+        private String name;
+        private int age;
+        private PersonPrime friend;
+        private PersonPrime partner;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        public PersonPrime getFriend() {
+            return friend;
+        }
+
+        public void setFriend(PersonPrime friend) {
+            this.friend = friend;
+        }
+
+        public PersonPrime getPartner() {
+            return partner;
+        }
+
+        public void setPartner(PersonPrime partner) {
+            this.partner = partner;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.functional_tests;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.github.dozermapper.core.DozerBeanMapperBuilder;
+import com.github.dozermapper.core.Mapper;
+import com.github.dozermapper.core.MappingException;
+import com.github.dozermapper.core.functional_tests.MapAllTest.Employee;
+import com.github.dozermapper.core.functional_tests.MapAllTest.Person;
+import com.github.dozermapper.core.functional_tests.MapAllTest.PersonPrime;
+import com.github.dozermapper.core.loader.api.BeanMappingBuilder;
+import com.github.dozermapper.core.loader.api.TypeMappingOptions;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class StreamMappingTest extends AbstractFunctionalTest {
+
+    @Test
+    public void testStreamIsMappedLazily() {
+        AtomicInteger pulled = new AtomicInteger();
+        Stream<Person> sources = Stream.iterate(0, i -> i + 1)
+                .peek(i -> pulled.incrementAndGet())
+                .map(i -> new Person(String.valueOf(i), i));
+
+        List<PersonPrime> result = mapper.stream(sources, PersonPrime.class)
+                .limit(3)
+                .collect(Collectors.toList());
+
+        assertEquals(3, result.size());
+        assertEquals("2", result.get(2).getName());
+        assertEquals(3, pulled.get());
+    }
+
+    @Test
+    public void testMappingFunctionMapsEveryClass() {
+        Function<Person, PersonPrime> function = mapper.mappingFunction(PersonPrime.class);
+
+        PersonPrime person = function.apply(new Person("a", 1));
+        PersonPrime employee = function.apply(new Employee("b", 2, "dozer"));
+        PersonPrime again = function.apply(new Person("c", 3));
+
+        assertEquals("a", person.getName());
+        assertEquals(2, employee.getAge());
+        assertEquals("c", again.getName());
+        assertNull(function.apply(null));
+    }
+
+    @Test
+    public void testMappingFunctionCallsAreIndependent() {
+        Function<Person, PersonPrime> function = mapper.mappingFunction(PersonPrime.class);
+        Person person = new Person("a", 1);
+
+        assertNotSame(function.apply(person), function.apply(person));
+    }
+
+    @Test
+    public void testMappingFunctionAppliesMapId() {
+        Mapper mapIdMapper = DozerBeanMapperBuilder.create()
+                .withMappingBuilder(new BeanMappingBuilder() {
+                    @Override
+                    protected void configure() {
+                        mapping(Person.class, PersonPrime.class, TypeMappingOptions.mapId("nameOnly"))
+                                .exclude("age");
+                    }
+                })
+                .build();
+
+        PersonPrime result = mapIdMapper.<Person, PersonPrime>mappingFunction(PersonPrime.class, "nameOnly").apply(new Person("a", 1));
+
+        assertEquals("a", result.getName());
+        assertEquals(0, result.getAge());
+    }
+
+    @Test
+    public void testMappingFunctionIsThreadsafe() {
+        Function<Person, PersonPrime> function = mapper.mappingFunction(PersonPrime.class);
+
+        List<PersonPrime> result = IntStream.range(0, 2000)
+                .parallel()
+                .mapToObj(i -> i % 2 == 0 ? new Person(String.valueOf(i), i) : new Employee(String.valueOf(i), i, "dozer"))
+                .map(function)
+                .collect(Collectors.toList());
+
+        for (int i = 0; i < result.size(); i++) {
+            assertEquals(String.valueOf(i), result.get(i).getName());
+            assertEquals(i, result.get(i).getAge());
+        }
+    }
+
+    @Test
+    public void testNullDestinationClassIsRejected() {
+        try {
+            mapper.mappingFunction(null);
+            fail("should have thrown exception");
+        } catch (MappingException e) {
+            assertEquals("Destination class must not be null", e.getMessage());
+        }
+    }
+}
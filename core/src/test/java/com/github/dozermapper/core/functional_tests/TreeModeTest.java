@@ -0,0 +1,310 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.functional_tests;
+
+import com.github.dozermapper.core.DozerBeanMapperBuilder;
+import com.github.dozermapper.core.Mapper;
+import com.github.dozermapper.core.MappingException;
+import com.github.dozermapper.core.config.Settings;
+import com.github.dozermapper.core.config.SettingsDefaults;
+import com.github.dozermapper.core.loader.api.BeanMappingBuilder;
+import com.github.dozermapper.core.loader.api.TypeMappingOptions;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TreeModeTest extends AbstractFunctionalTest {
+
+    @Test
+    public void testSharedReferenceIsMappedOnceByDefault() {
+        NodePrime result = mapper.map(createSharedLeaf(), NodePrime.class);
+
+        assertSame(result.getLeft(), result.getRight());
+    }
+
+    @Test
+    public void testSharedReferenceIsMappedPerOccurrenceInTreeMode() {
+        Mapper treeMapper = buildTreeModeMapper(SettingsDefaults.TREE_MODE_MAX_DEPTH);
+
+        NodePrime result = treeMapper.map(createSharedLeaf(), NodePrime.class);
+
+        assertNotSame(result.getLeft(), result.getRight());
+        assertEquals("leaf", result.getLeft().getName());
+        assertEquals("leaf", result.getRight().getName());
+    }
+
+    @Test
+    public void testTreeModeClassMappingViaApi() {
+        Mapper treeMapper = DozerBeanMapperBuilder.create()
+                .withMappingBuilder(new BeanMappingBuilder() {
+                    @Override
+                    protected void configure() {
+                        mapping(Node.class, NodePrime.class, TypeMappingOptions.treeMode());
+                    }
+                })
+                .build();
+
+        NodePrime result = treeMapper.map(createSharedLeaf(), NodePrime.class);
+
+        assertNotSame(result.getLeft(), result.getRight());
+    }
+
+    @Test
+    public void testTreeModeClassMappingViaXml() {
+        Mapper treeMapper = getMapper("mappings/treeModeMapping.xml");
+
+        NodePrime result = treeMapper.map(createSharedLeaf(), NodePrime.class);
+
+        assertNotSame(result.getLeft(), result.getRight());
+    }
+
+    @Test
+    public void testDeepTreeIsMapped() {
+        Mapper treeMapper = buildTreeModeMapper(SettingsDefaults.TREE_MODE_MAX_DEPTH);
+        Node root = new Node("0");
+        Node current = root;
+        for (int i = 1; i < 100; i++) {
+            Node next = new Node(String.valueOf(i));
+            current.setLeft(next);
+            current = next;
+        }
+
+        NodePrime result = treeMapper.map(root, NodePrime.class);
+
+        int depth = 0;
+        for (NodePrime node = result; node != null; node = node.getLeft()) {
+            assertEquals(String.valueOf(depth++), node.getName());
+        }
+        assertEquals(100, depth);
+    }
+
+    @Test
+    public void testCycleFailsFastInTreeMode() {
+        Mapper treeMapper = buildTreeModeMapper(16);
+        Node node = new Node("cycle");
+        node.setLeft(node);
+
+        try {
+            treeMapper.map(node, NodePrime.class);
+            fail("cycle should not be mapped in tree mode");
+        } catch (MappingException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("Maximum depth of 16"));
+        }
+    }
+
+    @Test
+    public void testCycleIsMappedByDefault() {
+        Node node = new Node("cycle");
+        node.setLeft(node);
+
+        NodePrime result = mapper.map(node, NodePrime.class);
+
+        assertSame(result, result.getLeft());
+    }
+
+    @Test
+    public void testAcyclicTypesAreNotTrackedWhenAnalyzingCycles() {
+        Mapper analyzingMapper = buildAnalyzingMapper();
+        Order order = new Order();
+        Address address = new Address();
+        address.setCity("city");
+        order.setBilling(address);
+        order.setShipping(address);
+
+        OrderPrime result = analyzingMapper.map(order, OrderPrime.class);
+
+        assertNotSame(result.getBilling(), result.getShipping());
+        assertEquals("city", result.getShipping().getCity());
+    }
+
+    @Test
+    public void testCyclicTypesAreTrackedWhenAnalyzingCycles() {
+        Mapper analyzingMapper = buildAnalyzingMapper();
+        Node node = new Node("cycle");
+        node.setLeft(node);
+
+        NodePrime result = analyzingMapper.map(node, NodePrime.class);
+
+        assertSame(result, result.getLeft());
+    }
+
+    private Node createSharedLeaf() {
+        Node root = new Node("root");
+        Node leaf = new Node("leaf");
+        root.setLeft(leaf);
+        root.setRight(leaf);
+        return root;
+    }
+
+    private Mapper buildTreeModeMapper(int maxDepth) {
+        return DozerBeanMapperBuilder.create()
+                .withSettingsProcessor(() -> {
+                    Settings settings = new Settings();
+                    settings.setTreeMode(true);
+                    settings.setTreeModeMaxDepth(maxDepth);
+                    return settings;
+                })
+                .build();
+    }
+
+    private Mapper buildAnalyzingMapper() {
+        return DozerBeanMapperBuilder.create()
+                .withSettingsProcessor(() -> {
+                    Settings settings = new Settings();
+                    settings.setAnalyzeCycles(true);
+                    return settings;
+                })
+                .build();
+    }
+
+    public static class Node {
+        private String name;
+        private Node left;
+        private Node right;
+
+        public Node() {
+        }
+
+        public Node(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Node getLeft() {
+            return left;
+        }
+
+        public void setLeft(Node left) {
+            this.left = left;
+        }
+
+        public Node getRight() {
+            return right;
+        }
+
+        public void setRight(Node right) {
+            this.right = right;
+        }
+    }
+
+    public static class NodePrime {
+        private String name;
+        private NodePrime left;
+        private NodePrime right;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public NodePrime getLeft() {
+            return left;
+        }
+
+        public void setLeft(NodePrime left) {
+            this.left = left;
+        }
+
+        public NodePrime getRight() {
+            return right;
+        }
+
+        public void setRight(NodePrime right) {
+            this.right = right;
+        }
+    }
+
+    public static class Order {
+        private Address billing;
+        private Address shipping;
+
+        public Address getBilling() {
+            return billing;
+        }
+
+        public void setBilling(Address billing) {
+            this.billing = billing;
+        }
+
+        public Address getShipping() {
+            return shipping;
+        }
+
+        public void setShipping(Address shipping) {
+            this.shipping = shipping;
+        }
+    }
+
+    public static class OrderPrime {
+        private AddressPrime billing;
+        private AddressPrime shipping;
+
+        public AddressPrime getBilling() {
+            return billing;
+        }
+
+        public void setBilling(AddressPrime billing) {
+            this.billing = billing;
+        }
+
+        public AddressPrime getShipping() {
+            return shipping;
+        }
+
+        public void setShipping(AddressPrime shipping) {
+            this.shipping = shipping;
+        }
+    }
+
+    public static final class Address {
+        private String city;
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+    }
+
+    public static class AddressPrime {
+        private String city;
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+    }
+}
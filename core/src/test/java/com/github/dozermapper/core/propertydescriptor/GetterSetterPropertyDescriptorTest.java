@@ -17,6 +17,7 @@ package com.github.dozermapper.core.propertydescriptor;
 
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Method;
+import java.util.Map;
 
 import com.github.dozermapper.core.AbstractDozerTest;
 import com.github.dozermapper.core.config.BeanContainer;
@@ -30,6 +31,7 @@ import org.mockito.internal.util.reflection.Whitebox;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 
 public class GetterSetterPropertyDescriptorTest extends AbstractDozerTest {
     private JavaBeanPropertyDescriptor javaBeanPropertyDescriptor;
@@ -107,6 +109,28 @@ public class GetterSetterPropertyDescriptorTest extends AbstractDozerTest {
         javaBeanPropertyDescriptor.getReadMethod();
     }
 
+    @Test
+    public void testDeepFieldHierarchyIsResolvedOncePerRuntimeClass() {
+        BeanContainer beanContainer = new BeanContainer();
+        JavaBeanPropertyDescriptor descriptor = new JavaBeanPropertyDescriptor(
+                Outer.class, "inner.name", false, -1, null, null, beanContainer, new DestBeanCreator(beanContainer));
+
+        assertEquals("outer", descriptor.getPropertyValue(new Outer("outer")));
+        assertEquals("other", descriptor.getPropertyValue(new OtherOuter("other")));
+        Object hierarchies = Whitebox.getInternalState(descriptor, "readHierarchies");
+        Map<?, ?> byType = (Map<?, ?>)Whitebox.getInternalState(hierarchies, "byType");
+        Object outerHierarchy = byType.get(Outer.class);
+        Object otherHierarchy = byType.get(OtherOuter.class);
+
+        assertEquals("outer", descriptor.getPropertyValue(new Outer("outer")));
+        assertEquals("other", descriptor.getPropertyValue(new OtherOuter("other")));
+
+        assertSame(hierarchies, Whitebox.getInternalState(descriptor, "readHierarchies"));
+        assertEquals(2, byType.size());
+        assertSame(outerHierarchy, byType.get(Outer.class));
+        assertSame(otherHierarchy, byType.get(OtherOuter.class));
+    }
+
     private void initializePropertyDescriptor() throws Exception {
         javaBeanPropertyDescriptor.getWriteMethod();
     }
@@ -130,4 +154,43 @@ public class GetterSetterPropertyDescriptorTest extends AbstractDozerTest {
             internalPropertyDescriptor.setReadMethod(null);
         }
     }
+
+    public static class Inner {
+
+        private final String name;
+
+        Inner(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    public static class Outer {
+
+        private final Inner inner;
+
+        Outer(String name) {
+            this.inner = new Inner(name);
+        }
+
+        public Inner getInner() {
+            return inner;
+        }
+    }
+
+    public static class OtherOuter {
+
+        private final Inner inner;
+
+        OtherOuter(String name) {
+            this.inner = new Inner(name);
+        }
+
+        public Inner getInner() {
+            return inner;
+        }
+    }
 }
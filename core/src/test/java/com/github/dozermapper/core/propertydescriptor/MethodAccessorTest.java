@@ -0,0 +1,148 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.propertydescriptor;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import com.github.dozermapper.core.AbstractDozerTest;
+import com.github.dozermapper.core.MappingException;
+import com.github.dozermapper.core.util.ReflectionUtils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class MethodAccessorTest extends AbstractDozerTest {
+
+    @Test
+    public void testPublicBeanRoundTrip() throws Exception {
+        PublicBean bean = new PublicBean();
+
+        MethodAccessor.forWriteMethod(PublicBean.class.getMethod("setName", String.class)).invoke(bean, "dozer");
+        MethodAccessor.forWriteMethod(PublicBean.class.getMethod("setCount", int.class)).invoke(bean, 3);
+
+        assertEquals("dozer", MethodAccessor.forReadMethod(PublicBean.class.getMethod("getName")).invoke(bean));
+        assertEquals(3, MethodAccessor.forReadMethod(PublicBean.class.getMethod("getCount")).invoke(bean));
+    }
+
+    @Test
+    public void testPackagePrivateBeanRoundTrip() throws Exception {
+        HiddenBean bean = new HiddenBean();
+        Method writeMethod = HiddenBean.class.getDeclaredMethod("setValue", Long.class);
+        Method readMethod = HiddenBean.class.getDeclaredMethod("getValue");
+
+        MethodAccessor.forWriteMethod(writeMethod).invoke(bean, 5L);
+
+        assertEquals(5L, MethodAccessor.forReadMethod(readMethod).invoke(bean));
+        assertSame(readMethod, MethodAccessor.forReadMethod(readMethod).getMethod());
+    }
+
+    @Test
+    public void testExceptionIsWrappedLikeReflection() throws Exception {
+        MethodAccessor accessor = MethodAccessor.forReadMethod(PublicBean.class.getMethod("getBroken"));
+
+        try {
+            accessor.invoke(new PublicBean());
+            fail("exception expected");
+        } catch (MappingException e) {
+            assertTrue(e.getCause() instanceof InvocationTargetException);
+            assertTrue(e.getCause().getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    public void testWrongValueTypeIsReportedByReflection() throws Exception {
+        MethodAccessor accessor = MethodAccessor.forWriteMethod(PublicBean.class.getMethod("setName", String.class));
+
+        try {
+            accessor.invoke(new PublicBean(), 1);
+            fail("exception expected");
+        } catch (MappingException e) {
+            assertTrue(e.getMessage().contains("Illegal object type"));
+        }
+    }
+
+    @Test
+    public void testNullForPrimitiveIsReportedByReflection() throws Exception {
+        Method writeMethod = PublicBean.class.getMethod("setCount", int.class);
+        MethodAccessor accessor = MethodAccessor.forWriteMethod(writeMethod);
+
+        assertEquals(failureOf(() -> ReflectionUtils.invoke(writeMethod, new PublicBean(), new Object[] {null})),
+                     failureOf(() -> accessor.invoke(new PublicBean(), null)));
+    }
+
+    @Test
+    public void testNullForObjectIsWritten() throws Exception {
+        PublicBean bean = new PublicBean();
+        bean.setName("dozer");
+
+        MethodAccessor.forWriteMethod(PublicBean.class.getMethod("setName", String.class)).invoke(bean, null);
+
+        assertNull(bean.getName());
+    }
+
+    private static Class<?> failureOf(Runnable runnable) {
+        try {
+            runnable.run();
+        } catch (RuntimeException e) {
+            return e.getClass();
+        }
+        fail("exception expected");
+        return null;
+    }
+
+    public static class PublicBean {
+        private String name;
+        private int count;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public String getBroken() {
+            throw new IllegalStateException("broken");
+        }
+    }
+
+    static class HiddenBean {
+        private Long value;
+
+        Long getValue() {
+            return value;
+        }
+
+        void setValue(Long value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.core.util;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.github.dozermapper.core.AbstractDozerTest;
+import com.github.dozermapper.core.converters.ConversionException;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PrimitiveArraysTest extends AbstractDozerTest {
+
+    @Test
+    public void testCanCopy() {
+        assertTrue(PrimitiveArrays.canCopy(int.class, int.class));
+        assertTrue(PrimitiveArrays.canCopy(int.class, long.class));
+        assertTrue(PrimitiveArrays.canCopy(double.class, byte.class));
+        assertTrue(PrimitiveArrays.canCopy(char.class, char.class));
+        assertFalse(PrimitiveArrays.canCopy(char.class, int.class));
+        assertFalse(PrimitiveArrays.canCopy(boolean.class, int.class));
+        assertFalse(PrimitiveArrays.canCopy(Integer.class, int.class));
+    }
+
+    @Test
+    public void testCopy_SameType() {
+        int[] dest = new int[] {1, 0, 0};
+        PrimitiveArrays.copy(new int[] {2, 3}, dest, 1);
+
+        assertArrayEquals(new int[] {1, 2, 3}, dest);
+    }
+
+    @Test
+    public void testCopy_Widening() {
+        long[] dest = new long[2];
+        PrimitiveArrays.copy(new int[] {Integer.MAX_VALUE, Integer.MIN_VALUE}, dest, 0);
+
+        assertArrayEquals(new long[] {Integer.MAX_VALUE, Integer.MIN_VALUE}, dest);
+    }
+
+    @Test
+    public void testCopy_Narrowing() {
+        int[] ints = new int[2];
+        PrimitiveArrays.copy(new double[] {1.9, -1.9}, ints, 0);
+        float[] floats = new float[1];
+        PrimitiveArrays.copy(new double[] {0.5}, floats, 0);
+
+        assertArrayEquals(new int[] {1, -1}, ints);
+        assertEquals(0.5f, floats[0], 0f);
+    }
+
+    @Test(expected = ConversionException.class)
+    public void testCopy_TooLarge() {
+        PrimitiveArrays.copy(new long[] {Integer.MAX_VALUE + 1L}, new int[1], 0);
+    }
+
+    @Test(expected = ConversionException.class)
+    public void testCopy_TooSmall() {
+        PrimitiveArrays.copy(new int[] {Byte.MIN_VALUE - 1}, new byte[1], 0);
+    }
+
+    @Test
+    public void testToList() {
+        List<Object> result = PrimitiveArrays.toList(new char[] {'a', 'b'});
+
+        assertEquals(Arrays.asList('a', 'b'), result);
+    }
+
+    @Test
+    public void testCopyFromCollection() {
+        long[] dest = new long[2];
+
+        assertTrue(PrimitiveArrays.copyFromCollection(Arrays.asList(1L, 2L), dest));
+        assertArrayEquals(new long[] {1L, 2L}, dest);
+    }
+
+    @Test
+    public void testCopyFromCollection_NotCopied() {
+        long[] dest = new long[2];
+
+        assertFalse(PrimitiveArrays.copyFromCollection(Arrays.asList(1L, null), dest));
+        assertFalse(PrimitiveArrays.copyFromCollection(Arrays.asList(1L, 2), dest));
+        assertArrayEquals(new long[2], dest);
+    }
+}
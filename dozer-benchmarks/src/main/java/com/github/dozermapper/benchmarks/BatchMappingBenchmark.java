@@ -0,0 +1,102 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.github.dozermapper.benchmarks.MappingProcessorBenchmark.FlatDestination;
+import com.github.dozermapper.benchmarks.MappingProcessorBenchmark.FlatSource;
+import com.github.dozermapper.core.DozerBeanMapperBuilder;
+import com.github.dozermapper.core.Mapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares mapping a list element by element with {@link Mapper#map(Object, Class)} against a single
+ * {@link Mapper#mapAll(Iterable, Class)} call, its parallel variant {@link Mapper#mapAllParallel(java.util.Collection, Class)}
+ * and a stream mapped with {@link Mapper#mappingFunction(Class)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchMappingBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private Mapper mapper;
+    private List<FlatSource> sources;
+    private Function<FlatSource, FlatDestination> mappingFunction;
+
+    @Setup
+    public void setUp() {
+        mapper = DozerBeanMapperBuilder.buildDefault();
+
+        sources = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            FlatSource source = new FlatSource();
+            source.setId((long)i);
+            source.setName("name" + i);
+            source.setAmount(i / 2d);
+            source.setCount(i);
+            sources.add(source);
+        }
+
+        mapper.map(sources.get(0), FlatDestination.class);
+        mappingFunction = mapper.mappingFunction(FlatDestination.class);
+    }
+
+    @Benchmark
+    public List<FlatDestination> mapLoop() {
+        List<FlatDestination> results = new ArrayList<>();
+        for (FlatSource source : sources) {
+            results.add(mapper.map(source, FlatDestination.class));
+        }
+        return results;
+    }
+
+    @Benchmark
+    public List<FlatDestination> mapAll() {
+        return mapper.mapAll(sources, FlatDestination.class);
+    }
+
+    @Benchmark
+    public List<FlatDestination> mapAllParallel() {
+        return mapper.mapAllParallel(sources, FlatDestination.class);
+    }
+
+    @Benchmark
+    public List<FlatDestination> mappingFunction() {
+        return sources.stream().map(mappingFunction).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result against a baseline and fails if a benchmark got worse by more than a tolerance.
+ * <p>
+ * Every benchmark is compared by its score, where higher is better for throughput and lower is better for the
+ * other modes, and by the bytes allocated per operation reported by the gc profiler. Benchmarks missing on either
+ * side are reported but do not fail. The result is also written in baseline format next to the JMH result, so it
+ * can be copied over the baseline once a change is accepted.
+ * <p>
+ * Arguments: {@code <baseline> <jmh result> <tolerance in percent> [update]}. With {@code update} the baseline is
+ * replaced by the result instead of compared. Without it a missing baseline fails, so a misconfigured path cannot
+ * pass the gate unnoticed.
+ */
+public final class BenchmarkGate {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    private BenchmarkGate() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("Usage: BenchmarkGate <baseline> <jmh result> <tolerance in percent> [update]");
+            System.exit(2);
+        }
+
+        Path baselineFile = Paths.get(args[0]);
+        Path resultFile = Paths.get(args[1]);
+        double tolerance = Double.parseDouble(args[2]) / 100d;
+        boolean update = args.length > 3 && Boolean.parseBoolean(args[3]);
+
+        Map<String, Measurement> results = readResult(resultFile);
+        String resultAsBaseline = writeBaseline(results);
+        Files.write(resultFile.resolveSibling("benchmark-baseline.json"), resultAsBaseline.getBytes(StandardCharsets.UTF_8));
+
+        if (update) {
+            Files.write(baselineFile, resultAsBaseline.getBytes(StandardCharsets.UTF_8));
+            System.out.println("Wrote baseline " + baselineFile);
+            return;
+        }
+        if (!Files.exists(baselineFile)) {
+            System.err.println("Baseline " + baselineFile + " does not exist, record it with -Dbenchmark.gate.update=true");
+            System.exit(1);
+        }
+
+        // compare with the same precision as the baseline
+        List<String> regressions = compare(readBaseline(baselineFile), parseBaseline(resultAsBaseline), tolerance);
+        if (!regressions.isEmpty()) {
+            System.err.println();
+            System.err.println(regressions.size() + " benchmark metric(s) got worse by more than "
+                               + format(tolerance * 100) + "%:");
+            for (String regression : regressions) {
+                System.err.println("  " + regression);
+            }
+            System.exit(1);
+        }
+    }
+
+    static List<String> compare(Map<String, Measurement> baseline, Map<String, Measurement> results, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        System.out.println(String.format(Locale.ROOT, "%-80s %14s %14s %8s %12s %12s %8s",
+                                         "Benchmark", "Baseline", "Score", "Change", "Base B/op", "B/op", "Change"));
+
+        for (Map.Entry<String, Measurement> entry : results.entrySet()) {
+            String name = entry.getKey();
+            Measurement result = entry.getValue();
+            Measurement base = baseline.get(name);
+            if (base == null) {
+                System.out.println(String.format(Locale.ROOT, "%-80s %14s %14s", name, "-", format(result.score)) + "  (not in baseline)");
+                continue;
+            }
+
+            // positive changes are regressions for both metrics
+            double scoreChange = result.higherIsBetter() ? change(result.score, base.score) : change(base.score, result.score);
+            double allocationChange = change(base.bytesPerOp, result.bytesPerOp);
+            System.out.println(String.format(Locale.ROOT, "%-80s %14s %14s %7s%% %12s %12s %7s%%",
+                                             name, format(base.score), format(result.score), format(scoreChange * 100),
+                                             format(base.bytesPerOp), format(result.bytesPerOp), format(allocationChange * 100)));
+
+            if (scoreChange > tolerance) {
+                regressions.add(name + ": score " + format(base.score) + " -> " + format(result.score) + " " + result.unit);
+            }
+            if (allocationChange > tolerance) {
+                regressions.add(name + ": allocation " + format(base.bytesPerOp) + " -> " + format(result.bytesPerOp) + " B/op");
+            }
+        }
+
+        for (String name : baseline.keySet()) {
+            if (!results.containsKey(name)) {
+                System.out.println(String.format(Locale.ROOT, "%-80s", name) + "  (not run)");
+            }
+        }
+        return regressions;
+    }
+
+    // Relative amount by which worse exceeds better, 0 if worse is not larger
+    private static double change(double better, double worse) {
+        if (worse <= better) {
+            return 0d;
+        }
+        return better == 0d ? Double.POSITIVE_INFINITY : (worse - better) / better;
+    }
+
+    static Map<String, Measurement> readResult(Path file) throws IOException {
+        Map<String, Measurement> measurements = new TreeMap<>();
+        for (Object run : (List<?>)JsonReader.read(new String(Files.readAllBytes(file), StandardCharsets.UTF_8))) {
+            Map<?, ?> benchmark = (Map<?, ?>)run;
+            Map<?, ?> primary = (Map<?, ?>)benchmark.get("primaryMetric");
+            Map<?, ?> secondary = (Map<?, ?>)benchmark.get("secondaryMetrics");
+
+            double bytesPerOp = 0d;
+            if (secondary != null) {
+                for (Map.Entry<?, ?> metric : secondary.entrySet()) {
+                    // older JMH versions prefix secondary metrics with a middle dot
+                    if (String.valueOf(metric.getKey()).endsWith(ALLOCATION_METRIC)) {
+                        bytesPerOp = ((Number)((Map<?, ?>)metric.getValue()).get("score")).doubleValue();
+                    }
+                }
+            }
+
+            String name = benchmark.get("benchmark") + paramsSuffix((Map<?, ?>)benchmark.get("params"));
+            measurements.put(name, new Measurement((String)benchmark.get("mode"), ((Number)primary.get("score")).doubleValue(),
+                                                   (String)primary.get("scoreUnit"), bytesPerOp));
+        }
+        return measurements;
+    }
+
+    private static String paramsSuffix(Map<?, ?> params) {
+        if (params == null || params.isEmpty()) {
+            return "";
+        }
+        StringBuilder suffix = new StringBuilder();
+        for (Map.Entry<?, ?> param : new TreeMap<>(params).entrySet()) {
+            suffix.append(suffix.length() == 0 ? ":" : ",").append(param.getKey()).append('=').append(param.getValue());
+        }
+        return suffix.toString();
+    }
+
+    static Map<String, Measurement> readBaseline(Path file) throws IOException {
+        return parseBaseline(new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+    }
+
+    static Map<String, Measurement> parseBaseline(String json) {
+        Map<String, Measurement> measurements = new TreeMap<>();
+        Map<?, ?> benchmarks = (Map<?, ?>)JsonReader.read(json);
+        for (Map.Entry<?, ?> entry : benchmarks.entrySet()) {
+            Map<?, ?> values = (Map<?, ?>)entry.getValue();
+            measurements.put((String)entry.getKey(), new Measurement((String)values.get("mode"), ((Number)values.get("score")).doubleValue(),
+                                                                    (String)values.get("unit"), ((Number)values.get("bytesPerOp")).doubleValue()));
+        }
+        return measurements;
+    }
+
+    static String writeBaseline(Map<String, Measurement> measurements) {
+        StringBuilder json = new StringBuilder("{\n");
+        int remaining = measurements.size();
+        for (Map.Entry<String, Measurement> entry : measurements.entrySet()) {
+            Measurement measurement = entry.getValue();
+            json.append(String.format(Locale.ROOT, "  \"%s\": {\"mode\": \"%s\", \"score\": %.3f, \"unit\": \"%s\", \"bytesPerOp\": %.1f}",
+                                      entry.getKey(), measurement.mode, measurement.score, measurement.unit, measurement.bytesPerOp));
+            json.append(--remaining > 0 ? ",\n" : "\n");
+        }
+        return json.append("}\n").toString();
+    }
+
+    private static String format(double value) {
+        return Double.isInfinite(value) ? "inf" : String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    static final class Measurement {
+
+        private final String mode;
+        private final double score;
+        private final String unit;
+        private final double bytesPerOp;
+
+        Measurement(String mode, double score, String unit, double bytesPerOp) {
+            this.mode = mode;
+            this.score = score;
+            this.unit = unit;
+            this.bytesPerOp = bytesPerOp;
+        }
+
+        boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.github.dozermapper.core.cache.Cache;
+import com.github.dozermapper.core.cache.ConcurrentCache;
+import com.github.dozermapper.core.cache.DefaultCache;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link DefaultCache} against {@link ConcurrentCache} used by several threads at once, the way the
+ * converter and super type caches are used by a shared mapper.
+ * <p>
+ * Keys are drawn from a skewed distribution over four times as many keys as fit in the cache, and missing keys are
+ * put afterwards. The benchmark reports both the throughput and the share of lookups which hit.
+ * Use {@code -t} to change the number of threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class CacheBenchmark {
+
+    private static final int MAXIMUM_SIZE = 1000;
+    private static final int KEYS = MAXIMUM_SIZE * 4;
+
+    @Param({"default", "concurrent"})
+    private String implementation;
+
+    private Cache<Integer, Integer> cache;
+    private Integer[] keys;
+
+    @Setup
+    public void setUp() {
+        cache = "concurrent".equals(implementation)
+                ? new ConcurrentCache<>("benchmark", MAXIMUM_SIZE)
+                : new DefaultCache<>("benchmark", MAXIMUM_SIZE);
+
+        keys = new Integer[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = i;
+        }
+    }
+
+    /**
+     * Hits and misses of the calling thread, reported by JMH as secondary results
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Hits {
+
+        public long hits;
+        public long misses;
+    }
+
+    @Benchmark
+    public Integer getOrPut(Hits counters) {
+        // squaring a uniform value makes small keys much more likely than large ones
+        double uniform = ThreadLocalRandom.current().nextDouble();
+        Integer key = keys[(int)(uniform * uniform * KEYS)];
+
+        Integer value = cache.get(key);
+        if (value == null) {
+            counters.misses++;
+            cache.put(key, key);
+            return key;
+        }
+        counters.hits++;
+        return value;
+    }
+}
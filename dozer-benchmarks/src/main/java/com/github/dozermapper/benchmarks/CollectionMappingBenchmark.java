@@ -0,0 +1,169 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.github.dozermapper.core.DozerBeanMapperBuilder;
+import com.github.dozermapper.core.Mapper;
+import com.github.dozermapper.core.classmap.RelationshipType;
+import com.github.dozermapper.core.loader.api.BeanMappingBuilder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.github.dozermapper.core.loader.api.FieldsMappingOptions.collectionStrategy;
+import static com.github.dozermapper.core.loader.api.FieldsMappingOptions.relationshipType;
+
+/**
+ * Maps an order into an existing order which already holds lines, so the lines are merged into the destination list.
+ * Half of the source lines are equal to existing lines and update them, the other half is appended. With orphan removal,
+ * the existing lines which are not in the source are removed as well.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CollectionMappingBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private Mapper nonCumulativeMapper;
+    private Mapper removeOrphansMapper;
+    private Order source;
+    private Order destination;
+
+    @Setup
+    public void setUp() {
+        nonCumulativeMapper = DozerBeanMapperBuilder.create()
+                .withMappingBuilder(new BeanMappingBuilder() {
+                    @Override
+                    protected void configure() {
+                        mapping(Order.class, Order.class)
+                                .fields("lines", "lines", relationshipType(RelationshipType.NON_CUMULATIVE));
+                    }
+                })
+                .build();
+        removeOrphansMapper = DozerBeanMapperBuilder.create()
+                .withMappingBuilder(new BeanMappingBuilder() {
+                    @Override
+                    protected void configure() {
+                        mapping(Order.class, Order.class)
+                                .fields("lines", "lines", collectionStrategy(true, RelationshipType.NON_CUMULATIVE));
+                    }
+                })
+                .build();
+
+        source = new Order();
+        for (int i = size / 2; i < size + size / 2; i++) {
+            source.getLines().add(new OrderLine(i, i * 2));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpDestination() {
+        destination = new Order();
+        for (int i = 0; i < size; i++) {
+            destination.getLines().add(new OrderLine(i, i));
+        }
+    }
+
+    @Benchmark
+    public Order nonCumulativeMerge() {
+        nonCumulativeMapper.map(source, destination);
+        return destination;
+    }
+
+    @Benchmark
+    public Order removeOrphans() {
+        removeOrphansMapper.map(source, destination);
+        return destination;
+    }
+
+    public static class Order {
+
+        private List<OrderLine> lines = new ArrayList<>();
+
+        public List<OrderLine> getLines() {
+            return lines;
+        }
+
+        public void setLines(List<OrderLine> lines) {
+            this.lines = lines;
+        }
+    }
+
+    public static class OrderLine {
+
+        private long id;
+        private int quantity;
+
+        public OrderLine() {
+        }
+
+        OrderLine(long id, int quantity) {
+            this.id = id;
+            this.quantity = quantity;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof OrderLine)) {
+                return false;
+            }
+            return id == ((OrderLine)o).id;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(id);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.github.dozermapper.benchmarks.MappingProcessorBenchmark.FlatDestination;
+import com.github.dozermapper.benchmarks.MappingProcessorBenchmark.FlatSource;
+import com.github.dozermapper.core.DozerBeanMapperBuilder;
+import com.github.dozermapper.core.Mapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of building a mapper, and of building one and mapping a first object with it, which includes creating the
+ * class mapping on demand. Applications which create a mapper per request pay this on every request.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperConstructionBenchmark {
+
+    private FlatSource source;
+
+    @Setup
+    public void setUp() {
+        source = MappingWorkloads.flatSource();
+    }
+
+    @Benchmark
+    public Mapper buildDefault() {
+        return DozerBeanMapperBuilder.buildDefault();
+    }
+
+    @Benchmark
+    public Mapper buildWithMappings() {
+        return MappingWorkloads.buildMapper();
+    }
+
+    @Benchmark
+    public FlatDestination buildAndMapFirst() {
+        return DozerBeanMapperBuilder.buildDefault().map(source, FlatDestination.class);
+    }
+}
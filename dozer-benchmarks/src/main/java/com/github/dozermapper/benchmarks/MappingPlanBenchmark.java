@@ -0,0 +1,79 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.github.dozermapper.benchmarks.MappingProcessorBenchmark.FlatDestination;
+import com.github.dozermapper.benchmarks.MappingProcessorBenchmark.FlatSource;
+import com.github.dozermapper.core.DozerBeanMapperBuilder;
+import com.github.dozermapper.core.Mapper;
+import com.github.dozermapper.core.config.Settings;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the interpreter against compiled mapping plans ({@code dozer.mapping.use-compiled-plans}) for a flat DTO.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingPlanBenchmark {
+
+    private Mapper interpreted;
+    private Mapper compiled;
+    private FlatSource source;
+
+    @Setup
+    public void setUp() {
+        interpreted = DozerBeanMapperBuilder.buildDefault();
+        compiled = DozerBeanMapperBuilder.create()
+                .withSettingsProcessor(() -> {
+                    Settings settings = new Settings();
+                    settings.setUseCompiledMappingPlans(true);
+                    return settings;
+                })
+                .build();
+
+        source = new FlatSource();
+        source.setId(42L);
+        source.setName("name");
+        source.setAmount(12.5d);
+        source.setCount(7);
+    }
+
+    @Benchmark
+    public FlatDestination interpreted() {
+        return interpreted.map(source, FlatDestination.class);
+    }
+
+    @Benchmark
+    public FlatDestination compiledPlan() {
+        return compiled.map(source, FlatDestination.class);
+    }
+}
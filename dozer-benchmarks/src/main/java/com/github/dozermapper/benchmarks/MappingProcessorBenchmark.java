@@ -0,0 +1,158 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.github.dozermapper.core.BenchmarkHooks;
+import com.github.dozermapper.core.DozerBeanMapperBuilder;
+import com.github.dozermapper.core.Mapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares building a complete mapping processor for every request, as the mapper used to do, against mapping
+ * through the mapper, whose processors share one mapping engine.
+ * <p>
+ * The per request construction is only reachable through {@link BenchmarkHooks}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingProcessorBenchmark {
+
+    private Mapper mapper;
+    private Supplier<Mapper> fullyConstructedProcessors;
+    private FlatSource source;
+
+    @Setup
+    public void setUp() {
+        mapper = DozerBeanMapperBuilder.buildDefault();
+        fullyConstructedProcessors = BenchmarkHooks.fullyConstructedProcessors(mapper);
+
+        source = new FlatSource();
+        source.setId(42L);
+        source.setName("name");
+        source.setAmount(12.5d);
+        source.setCount(7);
+
+        // prime the class mappings so both benchmarks only measure the request path
+        mapper.map(source, FlatDestination.class);
+    }
+
+    @Benchmark
+    public FlatDestination perCallConstruction() {
+        return fullyConstructedProcessors.get().map(source, FlatDestination.class);
+    }
+
+    @Benchmark
+    public FlatDestination sharedEngine() {
+        return mapper.map(source, FlatDestination.class);
+    }
+
+    public static class FlatSource {
+
+        private Long id;
+        private String name;
+        private double amount;
+        private int count;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public double getAmount() {
+            return amount;
+        }
+
+        public void setAmount(double amount) {
+            this.amount = amount;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+    }
+
+    public static class FlatDestination {
+
+        private Long id;
+        private String name;
+        private Double amount;
+        private long count;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Double getAmount() {
+            return amount;
+        }
+
+        public void setAmount(Double amount) {
+            this.amount = amount;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(long count) {
+            this.count = count;
+        }
+    }
+}
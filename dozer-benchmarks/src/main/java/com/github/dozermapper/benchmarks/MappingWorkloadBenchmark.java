@@ -0,0 +1,141 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.github.dozermapper.benchmarks.MappingProcessorBenchmark.FlatDestination;
+import com.github.dozermapper.benchmarks.MappingProcessorBenchmark.FlatSource;
+import com.github.dozermapper.benchmarks.MappingWorkloads.Basket;
+import com.github.dozermapper.benchmarks.MappingWorkloads.BasketDto;
+import com.github.dozermapper.benchmarks.MappingWorkloads.Employee;
+import com.github.dozermapper.benchmarks.MappingWorkloads.EmployeeDto;
+import com.github.dozermapper.benchmarks.MappingWorkloads.Invoice;
+import com.github.dozermapper.benchmarks.MappingWorkloads.InvoiceDto;
+import com.github.dozermapper.benchmarks.MappingWorkloads.Order;
+import com.github.dozermapper.benchmarks.MappingWorkloads.OrderSummary;
+import com.github.dozermapper.core.DozerConverter;
+import com.github.dozermapper.core.Mapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of a warmed up mapper for typical mapping workloads, see {@link MappingWorkloads} for the mappings.
+ * <p>
+ * Run through {@link BenchmarkRunner}, which adds the gc profiler, to see the allocation per mapping next to the
+ * throughput.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingWorkloadBenchmark {
+
+    private Mapper mapper;
+    private FlatSource flatSource;
+    private Map<String, Object> flatMap;
+    private Order order;
+    private Basket basket;
+    private Invoice invoice;
+    private Employee employee;
+
+    @Setup
+    public void setUp() {
+        mapper = MappingWorkloads.buildMapper();
+        flatSource = MappingWorkloads.flatSource();
+        flatMap = MappingWorkloads.flatMap();
+        order = MappingWorkloads.order();
+        basket = MappingWorkloads.basket();
+        invoice = MappingWorkloads.invoice();
+        employee = MappingWorkloads.employee();
+    }
+
+    /**
+     * Fields of the same name with wrapper and widening conversions
+     */
+    @Benchmark
+    public FlatDestination flatDto() {
+        return mapper.map(flatSource, FlatDestination.class);
+    }
+
+    /**
+     * Fields three levels deep, like {@code customer.address.city}
+     */
+    @Benchmark
+    public OrderSummary deepFields() {
+        return mapper.map(order, OrderSummary.class);
+    }
+
+    /**
+     * List of {@value MappingWorkloads#BASKET_SIZE} beans whose element type comes from hints
+     */
+    @Benchmark
+    public BasketDto collectionWithHints() {
+        return mapper.map(basket, BasketDto.class);
+    }
+
+    /**
+     * Map entries into bean properties
+     */
+    @Benchmark
+    public FlatDestination mapToBean() {
+        return mapper.map(flatMap, FlatDestination.class);
+    }
+
+    /**
+     * Bean properties into map entries
+     */
+    @Benchmark
+    public Map<?, ?> beanToMap() {
+        return mapper.map(flatSource, Map.class);
+    }
+
+    /**
+     * Field converted by a registered {@link DozerConverter} instance
+     */
+    @Benchmark
+    public InvoiceDto customConverter() {
+        return mapper.map(invoice, InvoiceDto.class);
+    }
+
+    /**
+     * Three level class hierarchy, with a mapping configured for the base classes only
+     */
+    @Benchmark
+    public EmployeeDto superTypeHierarchy() {
+        return mapper.map(employee, EmployeeDto.class);
+    }
+
+    /**
+     * Mapping selected by map id
+     */
+    @Benchmark
+    public FlatDestination mapId() {
+        return mapper.map(flatSource, FlatDestination.class, MappingWorkloads.ID_AND_NAME);
+    }
+}
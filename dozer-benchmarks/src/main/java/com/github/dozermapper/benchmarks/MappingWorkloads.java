@@ -0,0 +1,555 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.github.dozermapper.benchmarks.MappingProcessorBenchmark.FlatDestination;
+import com.github.dozermapper.benchmarks.MappingProcessorBenchmark.FlatSource;
+import com.github.dozermapper.core.DozerBeanMapperBuilder;
+import com.github.dozermapper.core.DozerConverter;
+import com.github.dozermapper.core.Mapper;
+import com.github.dozermapper.core.loader.api.BeanMappingBuilder;
+
+import static com.github.dozermapper.core.loader.api.FieldsMappingOptions.customConverter;
+import static com.github.dozermapper.core.loader.api.FieldsMappingOptions.hintA;
+import static com.github.dozermapper.core.loader.api.FieldsMappingOptions.hintB;
+import static com.github.dozermapper.core.loader.api.TypeMappingOptions.mapId;
+
+/**
+ * Beans and mappings of the workloads measured by {@link MappingWorkloadBenchmark} and
+ * {@link MapperConstructionBenchmark}
+ */
+public final class MappingWorkloads {
+
+    /**
+     * Map id of the mapping which only copies the id and name of a {@link FlatSource}
+     */
+    public static final String ID_AND_NAME = "idAndName";
+
+    /**
+     * Number of items in the basket created by {@link #basket()}
+     */
+    public static final int BASKET_SIZE = 20;
+
+    private MappingWorkloads() {
+    }
+
+    /**
+     * Creates a mapper configured with every workload mapping
+     *
+     * @return new mapper
+     */
+    public static Mapper buildMapper() {
+        return DozerBeanMapperBuilder.create()
+                .withMappingBuilder(new WorkloadMappings())
+                .withCustomConverter(new MoneyConverter())
+                .build();
+    }
+
+    public static FlatSource flatSource() {
+        FlatSource source = new FlatSource();
+        source.setId(42L);
+        source.setName("name");
+        source.setAmount(12.5d);
+        source.setCount(7);
+        return source;
+    }
+
+    public static Map<String, Object> flatMap() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("id", 42L);
+        map.put("name", "name");
+        map.put("amount", 12.5d);
+        map.put("count", 7L);
+        return map;
+    }
+
+    public static Order order() {
+        Address address = new Address();
+        address.setStreet("Main Street 1");
+        address.setCity("Springfield");
+        address.setZip("12345");
+
+        Customer customer = new Customer();
+        customer.setName("customer");
+        customer.setAddress(address);
+
+        Order order = new Order();
+        order.setId(42L);
+        order.setCustomer(customer);
+        return order;
+    }
+
+    public static Basket basket() {
+        List<Object> items = new ArrayList<>(BASKET_SIZE);
+        for (int i = 0; i < BASKET_SIZE; i++) {
+            Item item = new Item();
+            item.setSku("sku-" + i);
+            item.setQuantity(i);
+            item.setPrice(i * 1.5d);
+            items.add(item);
+        }
+
+        Basket basket = new Basket();
+        basket.setItems(items);
+        return basket;
+    }
+
+    public static Invoice invoice() {
+        Invoice invoice = new Invoice();
+        invoice.setNumber("2024-0042");
+        invoice.setTotal(new Money(new BigDecimal("99.95"), "EUR"));
+        return invoice;
+    }
+
+    public static Employee employee() {
+        Employee employee = new Employee();
+        employee.setId(42L);
+        employee.setCreatedBy("admin");
+        employee.setName("name");
+        employee.setDepartment("engineering");
+        return employee;
+    }
+
+    /**
+     * Deep fields, a list with hints, a field with a custom converter, a mapping of a super class which is picked up
+     * for sub classes and a map id
+     */
+    static final class WorkloadMappings extends BeanMappingBuilder {
+
+        @Override
+        protected void configure() {
+            mapping(Order.class, OrderSummary.class)
+                    .fields("customer.name", "customerName")
+                    .fields("customer.address.street", "street")
+                    .fields("customer.address.city", "city")
+                    .fields("customer.address.zip", "zip");
+
+            mapping(Basket.class, BasketDto.class)
+                    .fields("items", "items", hintA(Item.class), hintB(ItemDto.class));
+
+            mapping(Invoice.class, InvoiceDto.class)
+                    .fields("total", "total", customConverter(MoneyConverter.class));
+
+            mapping(BaseEntity.class, BaseDto.class)
+                    .fields("createdBy", "author");
+
+            mapping(FlatSource.class, FlatDestination.class, mapId(ID_AND_NAME))
+                    .exclude("amount")
+                    .exclude("count");
+        }
+    }
+
+    /**
+     * Converts {@link Money} to and from strings like {@code "99.95 EUR"}
+     */
+    public static class MoneyConverter extends DozerConverter<Money, String> {
+
+        public MoneyConverter() {
+            super(Money.class, String.class);
+        }
+
+        @Override
+        public String convertTo(Money source, String destination) {
+            return source == null ? null : source.getAmount().toPlainString() + " " + source.getCurrency();
+        }
+
+        @Override
+        public Money convertFrom(String source, Money destination) {
+            if (source == null) {
+                return null;
+            }
+            int separator = source.indexOf(' ');
+            return new Money(new BigDecimal(source.substring(0, separator)), source.substring(separator + 1));
+        }
+    }
+
+    public static class Money {
+
+        private final BigDecimal amount;
+        private final String currency;
+
+        public Money(BigDecimal amount, String currency) {
+            this.amount = amount;
+            this.currency = currency;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public String getCurrency() {
+            return currency;
+        }
+    }
+
+    public static class Address {
+
+        private String street;
+        private String city;
+        private String zip;
+
+        public String getStreet() {
+            return street;
+        }
+
+        public void setStreet(String street) {
+            this.street = street;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+
+        public String getZip() {
+            return zip;
+        }
+
+        public void setZip(String zip) {
+            this.zip = zip;
+        }
+    }
+
+    public static class Customer {
+
+        private String name;
+        private Address address;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Address getAddress() {
+            return address;
+        }
+
+        public void setAddress(Address address) {
+            this.address = address;
+        }
+    }
+
+    public static class Order {
+
+        private Long id;
+        private Customer customer;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public Customer getCustomer() {
+            return customer;
+        }
+
+        public void setCustomer(Customer customer) {
+            this.customer = customer;
+        }
+    }
+
+    public static class OrderSummary {
+
+        private Long id;
+        private String customerName;
+        private String street;
+        private String city;
+        private String zip;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getCustomerName() {
+            return customerName;
+        }
+
+        public void setCustomerName(String customerName) {
+            this.customerName = customerName;
+        }
+
+        public String getStreet() {
+            return street;
+        }
+
+        public void setStreet(String street) {
+            this.street = street;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+
+        public String getZip() {
+            return zip;
+        }
+
+        public void setZip(String zip) {
+            this.zip = zip;
+        }
+    }
+
+    public static class Item {
+
+        private String sku;
+        private int quantity;
+        private double price;
+
+        public String getSku() {
+            return sku;
+        }
+
+        public void setSku(String sku) {
+            this.sku = sku;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+
+        public void setPrice(double price) {
+            this.price = price;
+        }
+    }
+
+    public static class ItemDto {
+
+        private String sku;
+        private Integer quantity;
+        private Double price;
+
+        public String getSku() {
+            return sku;
+        }
+
+        public void setSku(String sku) {
+            this.sku = sku;
+        }
+
+        public Integer getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(Integer quantity) {
+            this.quantity = quantity;
+        }
+
+        public Double getPrice() {
+            return price;
+        }
+
+        public void setPrice(Double price) {
+            this.price = price;
+        }
+    }
+
+    public static class Basket {
+
+        private List<Object> items;
+
+        public List<Object> getItems() {
+            return items;
+        }
+
+        public void setItems(List<Object> items) {
+            this.items = items;
+        }
+    }
+
+    public static class BasketDto {
+
+        private List<Object> items;
+
+        public List<Object> getItems() {
+            return items;
+        }
+
+        public void setItems(List<Object> items) {
+            this.items = items;
+        }
+    }
+
+    public static class Invoice {
+
+        private String number;
+        private Money total;
+
+        public String getNumber() {
+            return number;
+        }
+
+        public void setNumber(String number) {
+            this.number = number;
+        }
+
+        public Money getTotal() {
+            return total;
+        }
+
+        public void setTotal(Money total) {
+            this.total = total;
+        }
+    }
+
+    public static class InvoiceDto {
+
+        private String number;
+        private String total;
+
+        public String getNumber() {
+            return number;
+        }
+
+        public void setNumber(String number) {
+            this.number = number;
+        }
+
+        public String getTotal() {
+            return total;
+        }
+
+        public void setTotal(String total) {
+            this.total = total;
+        }
+    }
+
+    public static class BaseEntity {
+
+        private Long id;
+        private String createdBy;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getCreatedBy() {
+            return createdBy;
+        }
+
+        public void setCreatedBy(String createdBy) {
+            this.createdBy = createdBy;
+        }
+    }
+
+    public static class Person extends BaseEntity {
+
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class Employee extends Person {
+
+        private String department;
+
+        public String getDepartment() {
+            return department;
+        }
+
+        public void setDepartment(String department) {
+            this.department = department;
+        }
+    }
+
+    public static class BaseDto {
+
+        private Long id;
+        private String author;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getAuthor() {
+            return author;
+        }
+
+        public void setAuthor(String author) {
+            this.author = author;
+        }
+    }
+
+    public static class PersonDto extends BaseDto {
+
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class EmployeeDto extends PersonDto {
+
+        private String department;
+
+        public String getDepartment() {
+            return department;
+        }
+
+        public void setDepartment(String department) {
+            this.department = department;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.github.dozermapper.core.DozerBeanMapperBuilder;
+import com.github.dozermapper.core.Mapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Maps a sample of primitive values into a primitive array of the same type, a wider type and a list of wrappers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PrimitiveArrayMappingBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private Mapper mapper;
+    private IntSamples source;
+
+    @Setup
+    public void setUp() {
+        mapper = DozerBeanMapperBuilder.buildDefault();
+        source = new IntSamples();
+        source.setValues(new int[size]);
+        for (int i = 0; i < size; i++) {
+            source.getValues()[i] = i;
+        }
+    }
+
+    @Benchmark
+    public IntSamples sameType() {
+        return mapper.map(source, IntSamples.class);
+    }
+
+    @Benchmark
+    public LongSamples widening() {
+        return mapper.map(source, LongSamples.class);
+    }
+
+    @Benchmark
+    public LongListSamples toList() {
+        return mapper.map(source, LongListSamples.class);
+    }
+
+    public static class IntSamples {
+
+        private int[] values;
+
+        public int[] getValues() {
+            return values;
+        }
+
+        public void setValues(int[] values) {
+            this.values = values;
+        }
+    }
+
+    public static class LongSamples {
+
+        private long[] values;
+
+        public long[] getValues() {
+            return values;
+        }
+
+        public void setValues(long[] values) {
+            this.values = values;
+        }
+    }
+
+    public static class LongListSamples {
+
+        private List<Long> values;
+
+        public List<Long> getValues() {
+            return values;
+        }
+
+        public void setValues(List<Long> values) {
+            this.values = values;
+        }
+    }
+}
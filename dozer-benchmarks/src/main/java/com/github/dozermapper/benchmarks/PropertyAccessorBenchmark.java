@@ -0,0 +1,132 @@
+/*
+ * Copyright 2005-2024 Dozer Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.dozermapper.benchmarks;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import com.github.dozermapper.core.config.BeanContainer;
+import com.github.dozermapper.core.factory.DestBeanCreator;
+import com.github.dozermapper.core.propertydescriptor.DozerPropertyDescriptor;
+import com.github.dozermapper.core.propertydescriptor.FieldPropertyDescriptor;
+import com.github.dozermapper.core.propertydescriptor.JavaBeanPropertyDescriptor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-property get/set cost of the property descriptors a mapper reads and writes fields with, which call bound
+ * accessors, against plain reflection. Writes through a descriptor first read the current value, as every mapped
+ * field does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PropertyAccessorBenchmark {
+
+    private Bean bean;
+    private String value;
+
+    private Method readMethod;
+    private Method writeMethod;
+    private Field field;
+
+    private DozerPropertyDescriptor propertyDescriptor;
+    private DozerPropertyDescriptor fieldDescriptor;
+
+    @Setup
+    public void setUp() throws Exception {
+        bean = new Bean();
+        value = "value";
+
+        readMethod = Bean.class.getMethod("getName");
+        writeMethod = Bean.class.getMethod("setName", String.class);
+        field = Bean.class.getDeclaredField("name");
+        field.setAccessible(true);
+
+        BeanContainer beanContainer = new BeanContainer();
+        DestBeanCreator destBeanCreator = new DestBeanCreator(beanContainer);
+        propertyDescriptor = new JavaBeanPropertyDescriptor(Bean.class, "name", false, -1, null, null, beanContainer, destBeanCreator);
+        fieldDescriptor = new FieldPropertyDescriptor(Bean.class, "name", false, -1, null, null, destBeanCreator);
+    }
+
+    @Benchmark
+    public Object reflectiveGet() throws ReflectiveOperationException {
+        return readMethod.invoke(bean);
+    }
+
+    @Benchmark
+    public Object reflectiveSet() throws ReflectiveOperationException {
+        return writeMethod.invoke(bean, value);
+    }
+
+    @Benchmark
+    public Object descriptorGet() {
+        return propertyDescriptor.getPropertyValue(bean);
+    }
+
+    @Benchmark
+    public Bean descriptorSet() {
+        propertyDescriptor.setPropertyValue(bean, value, null);
+        return bean;
+    }
+
+    @Benchmark
+    public Object reflectiveFieldGet() throws IllegalAccessException {
+        return field.get(bean);
+    }
+
+    @Benchmark
+    public Bean reflectiveFieldSet() throws IllegalAccessException {
+        field.set(bean, value);
+        return bean;
+    }
+
+    @Benchmark
+    public Object descriptorFieldGet() {
+        return fieldDescriptor.getPropertyValue(bean);
+    }
+
+    @Benchmark
+    public Bean descriptorFieldSet() {
+        fieldDescriptor.setPropertyValue(bean, value, null);
+        return bean;
+    }
+
+    public static class Bean {
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}